@@ -0,0 +1,38 @@
+package com.example.ddd_start.auth;
+
+import com.example.ddd_start.auth.model.AuthenticatedMember;
+import com.example.ddd_start.auth.model.MemberPrincipal;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * SecurityContext 의 {@link MemberPrincipal} 을 {@link AuthenticatedMember} 파라미터로 주입한다.
+ */
+public class AuthenticatedMemberArgumentResolver implements HandlerMethodArgumentResolver {
+
+  @Override
+  public boolean supportsParameter(MethodParameter parameter) {
+    return AuthenticatedMember.class.equals(parameter.getParameterType());
+  }
+
+  @Override
+  public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+      NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+    //회원 id claim 이 없는 이전 토큰은 다시 로그인해야 한다.
+    if (authentication == null
+        || !(authentication.getPrincipal() instanceof MemberPrincipal principal)
+        || principal.getMemberId() == null) {
+      throw new AuthenticationCredentialsNotFoundException("인증된 회원 정보가 없습니다.");
+    }
+
+    return principal.toAuthenticatedMember();
+  }
+}
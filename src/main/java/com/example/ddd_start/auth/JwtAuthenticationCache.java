@@ -0,0 +1,79 @@
+package com.example.ddd_start.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증이 끝난 토큰의 Authentication 을 토큰 만료 시각(exp)까지 보관한다.
+ * 키는 토큰 원문이 아닌 SHA-256 digest 를 사용한다.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final Cache<String, CachedAuthentication> cache;
+
+    public JwtAuthenticationCache(@Value("${jwt.cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiration())
+                .build();
+    }
+
+    public Optional<Authentication> get(String token) {
+        CachedAuthentication cached = cache.getIfPresent(digest(token));
+        if (cached == null || cached.isExpired()) {
+            return Optional.empty();
+        }
+        return Optional.of(cached.authentication());
+    }
+
+    public void put(String token, Authentication authentication, Instant expiresAt) {
+        if (expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        cache.put(digest(token), new CachedAuthentication(authentication, expiresAt));
+    }
+
+    public void evict(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    private String digest(String token) {
+        return DigestUtils.sha256Hex(token);
+    }
+
+    private record CachedAuthentication(Authentication authentication, Instant expiresAt) {
+
+        boolean isExpired() {
+            return !expiresAt.isAfter(Instant.now());
+        }
+    }
+
+    private static class UntilTokenExpiration implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.ddd_start.auth;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,10 +13,12 @@ import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends GenericFilterBean {
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -25,14 +28,32 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         String token = resolveToken((HttpServletRequest) request);
 
         //2. validate token
-        if (token != null && jwtTokenProvider.validateToken(token)) {
+        if (token != null) {
             //if token is valid, get Authentication from token and save it in SecurityContext
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            resolveAuthentication(token).ifPresent(authentication ->
+                    SecurityContextHolder.getContext().setAuthentication(authentication));
         }
         chain.doFilter(request, response);
     }
 
+    private Optional<Authentication> resolveAuthentication(String token) {
+        Optional<Authentication> cached = jwtAuthenticationCache.get(token);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        //cache miss 일 때만 서명 검증과 claim 파싱을 한 번 수행한다.
+        Optional<Claims> claims = jwtTokenProvider.parseVerifiedClaims(token);
+        //refresh token 으로는 API 를 호출할 수 없다.
+        if (claims.isEmpty() || jwtTokenProvider.isRefreshToken(claims.get())) {
+            return Optional.empty();
+        }
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(claims.get());
+        jwtAuthenticationCache.put(token, authentication, claims.get().getExpiration().toInstant());
+        return Optional.of(authentication);
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String barerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(barerToken) && barerToken.startsWith("Bearer")) {
@@ -1,6 +1,8 @@
 package com.example.ddd_start.auth;
 
 import com.example.ddd_start.auth.model.JwtToken;
+import com.example.ddd_start.auth.model.MemberPrincipal;
+import com.example.ddd_start.member.domain.MemberGrade;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -10,51 +12,74 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
 @Slf4j
 public class JwtTokenProvider {
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+    private static final String MEMBER_ID_CLAIM = "mid";
+    private static final String MEMBER_GRADE_CLAIM = "grade";
+
     private final Key key;
     private final Integer expires;
+    private final Long refreshExpires;
+    // JwtParser 는 불변이라 스레드 간에 공유해도 안전하다.
+    private final JwtParser jwtParser;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secretKey,
-            @Value("${jwt.expires}") Integer expires) {
+            @Value("${jwt.expires}") Integer expires,
+            @Value("${jwt.refresh-expires:1209600000}") Long refreshExpires) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.expires = expires;
+        this.refreshExpires = refreshExpires;
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     //JWT Access, Refresh Token 생성
     public JwtToken generateToken(Authentication authentication) {
-        //권한 가져오기
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
+        return generateToken(
+                authentication.getName(),
+                getAuthorities(authentication),
+                getMemberId(authentication),
+                getMemberGrade(authentication),
+                UUID.randomUUID().toString());
+    }
 
+    public JwtToken generateToken(String username, String authorities, Long memberId,
+            MemberGrade memberGrade, String refreshTokenId) {
         long now = (new Date()).getTime();
 
-        //Access Token 생성
+        //Access Token 생성, 회원 id 와 등급을 담아 요청마다 회원을 조회하지 않도록 한다.
         Date accessTokenExpiresIn = new Date(now + expires);
         String accessToken = Jwts.builder()
-                .setSubject(authentication.getName())
+                .setSubject(username)
                 .claim("auth", authorities)
+                .claim(MEMBER_ID_CLAIM, memberId)
+                .claim(MEMBER_GRADE_CLAIM, memberGrade == null ? null : memberGrade.name())
                 .setExpiration(accessTokenExpiresIn)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
 
-        //Refresh Token 생성
-        Date refreshTokenExpiresIn = new Date(now + expires);
+        //Refresh Token 생성, jti 로 저장된 refresh token 과 연결한다.
+        Date refreshTokenExpiresIn = new Date(now + refreshExpires);
         String refreshToken = Jwts.builder()
+                .setId(refreshTokenId)
+                .setSubject(username)
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
                 .setExpiration(refreshTokenExpiresIn)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
@@ -67,10 +92,37 @@ public class JwtTokenProvider {
                 .build();
     }
 
+    public String getAuthorities(Authentication authentication) {
+        //권한 가져오기
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+    }
+
+    public Long getMemberId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof MemberPrincipal principal) {
+            return principal.getMemberId();
+        }
+        return null;
+    }
+
+    public MemberGrade getMemberGrade(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof MemberPrincipal principal) {
+            return principal.getMemberGrade();
+        }
+        return null;
+    }
+
+    public Long getRefreshExpires() {
+        return refreshExpires;
+    }
+
     public Authentication getAuthentication(String accessToken) {
         // Jwt Token decode
-        Claims claims = parseClaims(accessToken);
+        return getAuthentication(parseClaims(accessToken));
+    }
 
+    public Authentication getAuthentication(Claims claims) {
         if (claims.get("auth") == null) {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
@@ -81,18 +133,26 @@ public class JwtTokenProvider {
                         .map(SimpleGrantedAuthority::new)
                         .toList();
 
-        // UserDetails: interface, User: Class that implement UserDetails
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        Number memberId = claims.get(MEMBER_ID_CLAIM, Number.class);
+        String memberGrade = claims.get(MEMBER_GRADE_CLAIM, String.class);
+
+        MemberPrincipal principal = new MemberPrincipal(
+                memberId == null ? null : memberId.longValue(),
+                claims.getSubject(),
+                "",
+                memberGrade == null ? null : MemberGrade.valueOf(memberGrade),
+                authorities);
         return new UsernamePasswordAuthenticationToken(principal, "", authorities);
     }
 
     public boolean validateToken(String token) {
+        return parseVerifiedClaims(token).isPresent();
+    }
+
+    //서명과 만료를 한 번만 검증하고 claims 를 돌려준다.
+    public Optional<Claims> parseVerifiedClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return Optional.of(jwtParser.parseClaimsJws(token).getBody());
         } catch (SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT Token", e);
         } catch (ExpiredJwtException e) {
@@ -103,16 +163,20 @@ public class JwtTokenProvider {
             log.info("JWT claims string is empty.", e);
         }
 
-        return false;
+        return Optional.empty();
+    }
+
+    public Optional<Claims> parseRefreshToken(String token) {
+        return parseVerifiedClaims(token).filter(this::isRefreshToken);
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM));
     }
 
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(accessToken)
-                    .getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
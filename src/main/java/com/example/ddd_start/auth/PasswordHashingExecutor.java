@@ -0,0 +1,66 @@
+package com.example.ddd_start.auth;
+
+import com.example.ddd_start.common.domain.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * BCrypt 같은 비밀번호 해시 연산 전용 스레드 풀.
+ * 호출한 스레드는 결과를 기다리지 않고 CompletableFuture 로 이어서 처리한다. DB 작업은 이 풀에서 하지 않는다.
+ * 큐가 가득 차면 대기하지 않고 {@link PasswordHashingBusyException} 으로 즉시 거절한다.
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+  private static final String THREAD_NAME_PREFIX = "password-hashing-";
+  private static final String METRIC_NAME = "password.hashing";
+
+  private final ThreadPoolExecutor threadPoolExecutor;
+  private final ExecutorService executor;
+  private final Counter rejectedCounter;
+
+  public PasswordHashingExecutor(
+      @Value("${password.hashing.pool-size:0}") int poolSize,
+      @Value("${password.hashing.queue-capacity:200}") int queueCapacity,
+      MeterRegistry meterRegistry) {
+    int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+    this.threadPoolExecutor = new ThreadPoolExecutor(
+        threads, threads,
+        0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        new CustomizableThreadFactory(THREAD_NAME_PREFIX),
+        new ThreadPoolExecutor.AbortPolicy());
+    //pool size, active, queued, 실행 시간 등은 micrometer 기본 executor 지표로 노출
+    this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, METRIC_NAME);
+    this.rejectedCounter = Counter.builder(METRIC_NAME + ".rejected")
+        .description("해시 풀 포화로 거절된 요청 수")
+        .register(meterRegistry);
+  }
+
+  public <T> CompletableFuture<T> submit(Supplier<T> task) {
+    try {
+      return CompletableFuture.supplyAsync(task, executor);
+    } catch (RejectedExecutionException e) {
+      rejectedCounter.increment();
+      throw new PasswordHashingBusyException();
+    }
+  }
+
+  @Override
+  public void destroy() {
+    threadPoolExecutor.shutdown();
+  }
+}
@@ -0,0 +1,30 @@
+package com.example.ddd_start.auth;
+
+import com.example.ddd_start.auth.model.RefreshToken;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+  // 사용되지 않은 토큰만 사용 처리한다. 0 이 반환되면 이미 누군가 사용한 토큰이다.
+  @Modifying
+  @Query("update RefreshToken rt set rt.used = true "
+      + "where rt.id = :id and rt.used = false and rt.revoked = false")
+  int markUsed(@Param("id") String id);
+
+  @Modifying
+  @Query("update RefreshToken rt set rt.revoked = true where rt.familyId = :familyId")
+  int revokeFamily(@Param("familyId") String familyId);
+
+  @Modifying
+  @Query("update RefreshToken rt set rt.revoked = true "
+      + "where rt.username = :username and rt.revoked = false")
+  int revokeAllByUsername(@Param("username") String username);
+
+  @Modifying
+  @Query("delete from RefreshToken rt where rt.expiresAt < :now")
+  int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,107 @@
+package com.example.ddd_start.auth;
+
+import com.example.ddd_start.auth.model.JwtToken;
+import com.example.ddd_start.auth.model.RefreshToken;
+import com.example.ddd_start.common.domain.exception.InvalidRefreshTokenException;
+import com.example.ddd_start.member.domain.Member;
+import com.example.ddd_start.member.domain.MemberGrade;
+import com.example.ddd_start.member.domain.MemberRepository;
+import io.jsonwebtoken.Claims;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final MemberRepository memberRepository;
+
+    //로그인 성공 시 새로운 token family 를 시작한다.
+    @Transactional
+    public JwtToken issue(Authentication authentication) {
+        return issue(
+                UUID.randomUUID().toString(),
+                authentication.getName(),
+                jwtTokenProvider.getAuthorities(authentication),
+                jwtTokenProvider.getMemberId(authentication),
+                jwtTokenProvider.getMemberGrade(authentication));
+    }
+
+    //비밀번호 검증 없이 refresh token 만으로 토큰을 재발급하고, refresh token 은 회전시킨다.
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public JwtToken refresh(String token) {
+        Claims claims = jwtTokenProvider.parseRefreshToken(token)
+                .orElseThrow(() -> new InvalidRefreshTokenException("유효하지 않은 refresh token 입니다."));
+        RefreshToken refreshToken = refreshTokenRepository.findById(claims.getId())
+                .orElseThrow(() -> new InvalidRefreshTokenException("존재하지 않는 refresh token 입니다."));
+
+        if (refreshToken.isExpired()) {
+            throw new InvalidRefreshTokenException("만료된 refresh token 입니다.");
+        }
+
+        //발급 이후 탈퇴하거나 차단된 회원은 더 이상 재발급하지 않는다.
+        Member member = memberRepository.findMemberByUsername(refreshToken.getUsername())
+                .orElse(null);
+        if (member == null || Boolean.TRUE.equals(member.getBlocked())) {
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+            throw new InvalidRefreshTokenException("재발급할 수 없는 회원입니다.");
+        }
+
+        if (refreshTokenRepository.markUsed(refreshToken.getId()) == 0) {
+            //이미 사용된 토큰의 재사용은 탈취로 간주하고 같은 family 를 모두 폐기한다.
+            log.warn("refresh token 재사용 감지: username={}, family={}",
+                    refreshToken.getUsername(), refreshToken.getFamilyId());
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+            throw new InvalidRefreshTokenException("이미 사용된 refresh token 입니다.");
+        }
+
+        return issue(
+                refreshToken.getFamilyId(),
+                refreshToken.getUsername(),
+                refreshToken.getAuthorities(),
+                refreshToken.getMemberId(),
+                refreshToken.getMemberGrade());
+    }
+
+    //비밀번호 변경, 차단, 탈퇴 시 회원의 모든 token family 를 폐기한다.
+    @Transactional
+    public void revokeAll(String username) {
+        int revoked = refreshTokenRepository.revokeAllByUsername(username);
+        log.info("refresh token {}건을 폐기했습니다: username={}", revoked, username);
+    }
+
+    private JwtToken issue(String familyId, String username, String authorities, Long memberId,
+            MemberGrade memberGrade) {
+        String refreshTokenId = UUID.randomUUID().toString();
+        JwtToken jwtToken = jwtTokenProvider.generateToken(
+                username, authorities, memberId, memberGrade, refreshTokenId);
+
+        refreshTokenRepository.save(new RefreshToken(
+                refreshTokenId,
+                familyId,
+                username,
+                authorities,
+                memberId,
+                memberGrade,
+                Instant.now().plusMillis(jwtTokenProvider.getRefreshExpires())));
+
+        return jwtToken;
+    }
+
+    //매일 새벽 4시에 만료된 refresh token 정리
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    @Transactional
+    public void deleteExpiredTokens() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        log.info("만료된 refresh token {}건을 삭제했습니다.", deleted);
+    }
+}
@@ -1,13 +1,20 @@
 package com.example.ddd_start.auth;
 
+import com.example.ddd_start.common.infrastructure.ratelimit.RateLimitFilter;
+import com.example.ddd_start.common.infrastructure.ratelimit.RateLimitProperties;
+import com.example.ddd_start.common.infrastructure.ratelimit.RateLimiter;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -19,6 +26,9 @@ import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 public class SecurityConfig {
 
   private final JwtTokenProvider jwtTokenProvider;
+  private final JwtAuthenticationCache jwtAuthenticationCache;
+  private final RateLimiter rateLimiter;
+  private final RateLimitProperties rateLimitProperties;
 
   @Bean
   public SecurityFilterChain filterChain(HttpSecurity security) throws Exception {
@@ -32,6 +42,7 @@ public class SecurityConfig {
                 .requestMatchers(
                     new AntPathRequestMatcher("/members/join"),
                     new AntPathRequestMatcher("/members/sign-in"),
+                    new AntPathRequestMatcher("/members/refresh"),
                     new AntPathRequestMatcher("/products"),
                     new AntPathRequestMatcher("/products/{productId}"),
                     new AntPathRequestMatcher("/swagger-ui.html"),
@@ -39,16 +50,32 @@ public class SecurityConfig {
                     new AntPathRequestMatcher("/swagger-ui/**"),
                     new AntPathRequestMatcher("/categories")
                 ).permitAll()
+                .requestMatchers(
+                    new AntPathRequestMatcher("/orders/bulk"),
+                    new AntPathRequestMatcher("/orders/number/**"),
+                    new AntPathRequestMatcher("/orders/shipping/bulk"),
+                    new AntPathRequestMatcher("/inventory/**"),
+                    new AntPathRequestMatcher("/admin/**")
+                ).hasRole("ADMIN")
                 .anyRequest().authenticated()
         )
-        .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
+        .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, jwtAuthenticationCache),
             UsernamePasswordAuthenticationFilter.class)
+        .addFilterAfter(new RateLimitFilter(rateLimiter, rateLimitProperties),
+            JwtAuthenticationFilter.class)
         .build();
   }
 
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    // BCrypt Encoder 사용
-    return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+  public PasswordEncoder passwordEncoder(
+      @Value("${password.bcrypt.strength:10}") int strength) {
+    // BCrypt Encoder 사용, cost 를 올리면 로그인 시 upgradeEncoding 으로 재암호화된다.
+    // 요청 경로에서는 PasswordHashingExecutor 로 감싸서 호출한다.
+    DelegatingPasswordEncoder delegate = new DelegatingPasswordEncoder(
+        "bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(strength)));
+    delegate.setDefaultPasswordEncoderForMatches(
+        PasswordEncoderFactories.createDelegatingPasswordEncoder());
+
+    return delegate;
   }
 }
@@ -0,0 +1,10 @@
+package com.example.ddd_start.auth.model;
+
+import com.example.ddd_start.member.domain.MemberGrade;
+
+/**
+ * 컨트롤러에 주입되는 인증된 회원 정보.
+ */
+public record AuthenticatedMember(Long memberId, String username, MemberGrade memberGrade) {
+
+}
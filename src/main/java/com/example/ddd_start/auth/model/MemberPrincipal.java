@@ -0,0 +1,28 @@
+package com.example.ddd_start.auth.model;
+
+import com.example.ddd_start.member.domain.MemberGrade;
+import java.util.Collection;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * 회원 id 와 등급을 함께 들고 다니는 UserDetails. 토큰 claim 으로 복원되므로 요청마다 회원을 조회하지 않는다.
+ */
+@Getter
+public class MemberPrincipal extends User {
+
+  private final Long memberId;
+  private final MemberGrade memberGrade;
+
+  public MemberPrincipal(Long memberId, String username, String password,
+      MemberGrade memberGrade, Collection<? extends GrantedAuthority> authorities) {
+    super(username, password, authorities);
+    this.memberId = memberId;
+    this.memberGrade = memberGrade;
+  }
+
+  public AuthenticatedMember toAuthenticatedMember() {
+    return new AuthenticatedMember(memberId, getUsername(), memberGrade);
+  }
+}
@@ -0,0 +1,55 @@
+package com.example.ddd_start.auth.model;
+
+import com.example.ddd_start.member.domain.MemberGrade;
+import java.time.Instant;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 발급된 refresh token 의 상태. 같은 로그인에서 회전된 토큰들은 familyId 를 공유하며, 이미 사용된 토큰이 다시 들어오면
+ * family 전체를 폐기한다.
+ */
+@Entity
+@Table(name = "refresh_token", indexes = {
+    @Index(name = "idx_refresh_token_family", columnList = "familyId"),
+    @Index(name = "idx_refresh_token_expires_at", columnList = "expiresAt")
+})
+@Getter
+@NoArgsConstructor
+public class RefreshToken {
+
+  @Id
+  private String id;
+  private String familyId;
+  private String username;
+  private String authorities;
+  private Long memberId;
+  @Enumerated(EnumType.STRING)
+  private MemberGrade memberGrade;
+  private Instant expiresAt;
+  private Boolean used;
+  private Boolean revoked;
+
+  public RefreshToken(String id, String familyId, String username, String authorities,
+      Long memberId, MemberGrade memberGrade, Instant expiresAt) {
+    this.id = id;
+    this.familyId = familyId;
+    this.username = username;
+    this.authorities = authorities;
+    this.memberId = memberId;
+    this.memberGrade = memberGrade;
+    this.expiresAt = expiresAt;
+    this.used = false;
+    this.revoked = false;
+  }
+
+  public boolean isExpired() {
+    return expiresAt.isBefore(Instant.now());
+  }
+}
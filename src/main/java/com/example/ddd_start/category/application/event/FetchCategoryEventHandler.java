@@ -4,38 +4,60 @@ import com.example.ddd_start.category.application.service.model.CategoryDTO;
 import com.example.ddd_start.category.domain.Category;
 import com.example.ddd_start.category.domain.CategoryRepository;
 import com.example.ddd_start.category.domain.event.FetchCategoryEvent;
-import com.example.ddd_start.product.application.service.FetchProductService;
+import com.example.ddd_start.common.application.event.BatchEventListener;
+import com.example.ddd_start.common.config.AsyncConfig;
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class FetchCategoryEventHandler {
+public class FetchCategoryEventHandler implements BatchEventListener<FetchCategoryEvent> {
 
   private final CategoryRepository categoryRepository;
 
-  @Async
-  @EventListener(FetchCategoryEvent.class)
+  @Override
+  public Class<FetchCategoryEvent> eventType() {
+    return FetchCategoryEvent.class;
+  }
+
+  @Override
+  public String executorName() {
+    return AsyncConfig.CATALOG_EXECUTOR;
+  }
+
+  //존재 여부를 한 번에 조회하고 없는 카테고리만 한 번에 저장한다.
+  @Override
   @Transactional
-  public void fetchCategory(FetchCategoryEvent event) {
-    CategoryDTO categoryDTO = event.getCategoryDTO();
-    if (categoryRepository.findById(categoryDTO.getId()).isEmpty()) {
-      categoryRepository.save(
-          new Category(
-              categoryDTO.getId(),
-              categoryDTO.getName(),
-              categoryDTO.getSlug(),
-              categoryDTO.getImage(),
-              Instant.parse(categoryDTO.getCreationAt()),
-              Instant.parse(categoryDTO.getUpdatedAt())
-          )
-      );
-    }
+  public void onEvents(List<FetchCategoryEvent> events) {
+    Map<Long, CategoryDTO> categories = new LinkedHashMap<>();
+    events.forEach(event -> categories.put(event.getCategoryDTO().getId(), event.getCategoryDTO()));
+
+    Set<Long> existingIds = categoryRepository.findAllById(categories.keySet()).stream()
+        .map(Category::getId)
+        .collect(Collectors.toSet());
+
+    List<Category> newCategories = categories.values().stream()
+        .filter(categoryDTO -> !existingIds.contains(categoryDTO.getId()))
+        .map(categoryDTO -> new Category(
+            categoryDTO.getId(),
+            categoryDTO.getName(),
+            categoryDTO.getSlug(),
+            categoryDTO.getImage(),
+            Instant.parse(categoryDTO.getCreationAt()),
+            Instant.parse(categoryDTO.getUpdatedAt())
+        ))
+        .toList();
+
+    categoryRepository.saveAll(newCategories);
+    log.info("카테고리 {}건 중 {}건을 새로 저장했습니다.", categories.size(), newCategories.size());
   }
 }
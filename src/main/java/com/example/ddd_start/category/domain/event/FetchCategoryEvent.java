@@ -1,13 +1,19 @@
 package com.example.ddd_start.category.domain.event;
 
 import com.example.ddd_start.category.application.service.model.CategoryDTO;
+import com.example.ddd_start.common.application.event.CoalescingEvent;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 @Getter
 @RequiredArgsConstructor
-public class FetchCategoryEvent extends CategoryEvent {
+public class FetchCategoryEvent extends CategoryEvent implements CoalescingEvent {
 
   private final CategoryDTO categoryDTO;
 
+  @Override
+  public Object coalescingKey() {
+    return categoryDTO.getId();
+  }
+
 }
@@ -0,0 +1,122 @@
+package com.example.ddd_start.common.application.event;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 이벤트 목록을 타입별로 나눠 {@link BatchEventListener} 에 chunk 단위로 전달한다. 리스너마다 자신의 executor 에서
+ * 병렬로 실행되고, 모든 리스너가 끝날 때까지 기다린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchEventDispatcher {
+
+  private final List<BatchEventListener<?>> listeners;
+  private final Map<String, TaskExecutor> executors;
+
+  @Value("${outbox.chunk-size:100}")
+  private int chunkSize;
+
+  public void dispatch(List<?> events) {
+    try {
+      dispatchAsync(events).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  //리스너 실행을 기다리지 않는다. 커밋 후 처리처럼 호출 스레드를 붙잡으면 안 되는 곳에서 사용한다.
+  public CompletableFuture<Void> dispatchAsync(List<?> events) {
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (BatchEventListener<?> listener : listeners) {
+      List<?> matched = events.stream()
+          .filter(listener.eventType()::isInstance)
+          .toList();
+      if (matched.isEmpty()) {
+        continue;
+      }
+      futures.add(CompletableFuture.runAsync(
+          () -> deliver(listener, matched), executor(listener)));
+    }
+
+    return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+  }
+
+  public List<BatchEventListener<?>> getListeners() {
+    return listeners;
+  }
+
+  //프록시가 씌워져도 바뀌지 않는 리스너 이름. 리스너별 전달 기록의 키로 사용한다.
+  public String listenerName(BatchEventListener<?> listener) {
+    return ClassUtils.getUserClass(listener).getName();
+  }
+
+  /**
+   * 한 리스너에게 key 별 이벤트를 chunk 단위로 전달하고 처리하지 못한 key 를 돌려준다.
+   * chunk 가 실패하면 그 chunk 만 한 건씩 다시 보내 실패한 key 를 골라낸다. 앞서 성공한 chunk 는 다시 보내지 않는다.
+   */
+  public <K> CompletableFuture<Set<K>> deliverAsync(BatchEventListener<?> listener,
+      Map<K, ?> events) {
+    return CompletableFuture.supplyAsync(() -> {
+      List<K> keys = List.copyOf(events.keySet());
+      Set<K> failed = new HashSet<>();
+      for (int from = 0; from < keys.size(); from += chunkSize) {
+        List<K> chunk = keys.subList(from, Math.min(from + chunkSize, keys.size()));
+        try {
+          invoke(listener, chunk.stream().map(events::get).toList());
+        } catch (RuntimeException e) {
+          log.warn("이벤트 chunk 처리 실패, 개별 처리로 전환합니다: listener={}, size={}",
+              listenerName(listener), chunk.size(), e);
+          for (K key : chunk) {
+            try {
+              invoke(listener, List.of(events.get(key)));
+            } catch (RuntimeException single) {
+              log.error("이벤트 처리 실패: listener={}, key={}", listenerName(listener), key, single);
+              failed.add(key);
+            }
+          }
+        }
+      }
+      return failed;
+    }, executor(listener));
+  }
+
+  private <E> void invoke(BatchEventListener<E> listener, List<?> events) {
+    listener.onEvents(events.stream()
+        .map(listener.eventType()::cast)
+        .toList());
+  }
+
+  private <E> void deliver(BatchEventListener<E> listener, List<?> events) {
+    List<E> typed = events.stream()
+        .map(listener.eventType()::cast)
+        .toList();
+    for (int from = 0; from < typed.size(); from += chunkSize) {
+      listener.onEvents(typed.subList(from, Math.min(from + chunkSize, typed.size())));
+    }
+  }
+
+  private Executor executor(BatchEventListener<?> listener) {
+    TaskExecutor executor = executors.get(listener.executorName());
+    if (executor == null) {
+      throw new IllegalStateException("존재하지 않는 executor 입니다: " + listener.executorName());
+    }
+    return executor;
+  }
+}
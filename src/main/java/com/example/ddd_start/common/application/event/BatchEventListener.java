@@ -0,0 +1,19 @@
+package com.example.ddd_start.common.application.event;
+
+import com.example.ddd_start.common.config.AsyncConfig;
+import java.util.List;
+
+/**
+ * 같은 타입의 이벤트를 묶어서 처리하는 핸들러. 전달은 최소 한 번(at-least-once)이므로 멱등하게 구현해야 한다.
+ */
+public interface BatchEventListener<E> {
+
+  Class<E> eventType();
+
+  void onEvents(List<E> events);
+
+  //처리할 @Async executor 이름. 도메인별 executor 를 지정해 서로의 처리를 지연시키지 않도록 한다.
+  default String executorName() {
+    return AsyncConfig.DEFAULT_EXECUTOR;
+  }
+}
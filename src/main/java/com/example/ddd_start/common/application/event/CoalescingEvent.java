@@ -0,0 +1,9 @@
+package com.example.ddd_start.common.application.event;
+
+/**
+ * 한 트랜잭션 안에서 같은 키로 여러 번 발생하면 마지막 하나만 전달되는 이벤트.
+ */
+public interface CoalescingEvent {
+
+  Object coalescingKey();
+}
@@ -0,0 +1,43 @@
+package com.example.ddd_start.common.application.event;
+
+import com.example.ddd_start.common.domain.outbox.OutboxMessage;
+import com.example.ddd_start.common.domain.outbox.OutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 이벤트를 outbox 테이블에 저장한다. 반드시 애그리거트를 변경하는 트랜잭션 안에서 호출해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+  private final OutboxMessageRepository outboxMessageRepository;
+  private final ObjectMapper objectMapper;
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void publish(Object event) {
+    outboxMessageRepository.save(toMessage(event));
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void publishAll(List<?> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    outboxMessageRepository.saveAll(events.stream().map(this::toMessage).toList());
+  }
+
+  private OutboxMessage toMessage(Object event) {
+    try {
+      return new OutboxMessage(event.getClass().getName(), objectMapper.writeValueAsString(event));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("이벤트를 직렬화할 수 없습니다: " + event.getClass(), e);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.example.ddd_start.common.application.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 동안 발생한 이벤트를 모아 두었다가 커밋 후 한 번에 {@link BatchEventDispatcher} 로 넘긴다.
+ * {@link CoalescingEvent} 는 키 기준으로 중복을 제거하고, 롤백되면 모은 이벤트는 버린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionalEventCollector {
+
+  private final BatchEventDispatcher batchEventDispatcher;
+
+  public void collect(Object event) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      dispatch(List.of(event));
+      return;
+    }
+
+    currentBuffer().put(keyOf(event), event);
+  }
+
+  //트랜잭션 밖에서 여러 이벤트를 한 번에 넘길 때 사용한다. 트랜잭션 안이라면 collect 와 같다.
+  public void collectAll(Collection<?> events) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      events.forEach(this::collect);
+      return;
+    }
+
+    Map<Object, Object> buffer = new LinkedHashMap<>();
+    events.forEach(event -> buffer.put(keyOf(event), event));
+    dispatch(new ArrayList<>(buffer.values()));
+  }
+
+  private Object keyOf(Object event) {
+    return event instanceof CoalescingEvent coalescing ? coalescing.coalescingKey() : event;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<Object, Object> currentBuffer() {
+    Map<Object, Object> buffer =
+        (Map<Object, Object>) TransactionSynchronizationManager.getResource(this);
+    if (buffer != null) {
+      return buffer;
+    }
+
+    Map<Object, Object> newBuffer = new LinkedHashMap<>();
+    TransactionSynchronizationManager.bindResource(this, newBuffer);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        dispatch(new ArrayList<>(newBuffer.values()));
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(TransactionalEventCollector.this);
+      }
+    });
+    return newBuffer;
+  }
+
+  private void dispatch(List<Object> events) {
+    batchEventDispatcher.dispatchAsync(events)
+        .exceptionally(e -> {
+          log.error("이벤트 batch 처리 실패: size={}", events.size(), e);
+          return null;
+        });
+  }
+}
@@ -0,0 +1,132 @@
+package com.example.ddd_start.common.config;
+
+import com.example.ddd_start.common.config.AsyncExecutorProperties.Pool;
+import com.example.ddd_start.common.config.AsyncExecutorProperties.RejectionPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 도메인별 @Async executor. 한 도메인의 작업이 몰려도 다른 도메인의 큐를 막지 않도록 풀과 큐를 분리한다.
+ * 큐 길이, 활성 스레드, 거절 수와 큐 대기 시간을 executor 태그로 노출한다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+  public static final String ORDER_EXECUTOR = "orderExecutor";
+  public static final String MEMBER_EXECUTOR = "memberExecutor";
+  public static final String CATALOG_EXECUTOR = "catalogExecutor";
+  public static final String IMPORT_EXECUTOR = "importExecutor";
+  public static final String DEFAULT_EXECUTOR = "taskExecutor";
+
+  private final AsyncExecutorProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  @Bean(ORDER_EXECUTOR)
+  public ThreadPoolTaskExecutor orderExecutor() {
+    return createExecutor("order", new Pool(4, 8, 500, RejectionPolicy.CALLER_RUNS));
+  }
+
+  @Bean(MEMBER_EXECUTOR)
+  public ThreadPoolTaskExecutor memberExecutor() {
+    return createExecutor("member", new Pool(2, 4, 200, RejectionPolicy.CALLER_RUNS));
+  }
+
+  @Bean(CATALOG_EXECUTOR)
+  public ThreadPoolTaskExecutor catalogExecutor() {
+    return createExecutor("catalog", new Pool(2, 4, 1000, RejectionPolicy.CALLER_RUNS));
+  }
+
+  @Bean(IMPORT_EXECUTOR)
+  public ThreadPoolTaskExecutor importExecutor() {
+    return createExecutor("import", new Pool(1, 1, 10, RejectionPolicy.ABORT));
+  }
+
+  @Bean(DEFAULT_EXECUTOR)
+  public ThreadPoolTaskExecutor taskExecutor() {
+    return createExecutor("default", new Pool(2, 4, 100, RejectionPolicy.CALLER_RUNS));
+  }
+
+  @Override
+  public Executor getAsyncExecutor() {
+    return taskExecutor();
+  }
+
+  @Override
+  public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+    return (ex, method, params) ->
+        log.error("비동기 작업 실패: {}.{}", method.getDeclaringClass().getSimpleName(),
+            method.getName(), ex);
+  }
+
+  private ThreadPoolTaskExecutor createExecutor(String name, Pool defaults) {
+    Pool pool = properties.get(name, defaults);
+
+    Timer waitTimer = Timer.builder("async.executor.queue.wait")
+        .tag("executor", name)
+        .description("작업이 큐에서 실행되기까지 기다린 시간")
+        .register(meterRegistry);
+    Counter rejectedCounter = Counter.builder("async.executor.rejected")
+        .tag("executor", name)
+        .register(meterRegistry);
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix(name + "-async-");
+    executor.setCorePoolSize(pool.getCoreSize());
+    executor.setMaxPoolSize(pool.getMaxSize());
+    executor.setQueueCapacity(pool.getQueueCapacity());
+    executor.setRejectedExecutionHandler(
+        countingRejection(rejectionHandler(pool.getRejectionPolicy()), rejectedCounter));
+    executor.setTaskDecorator(task -> {
+      long submittedAt = System.nanoTime();
+      return () -> {
+        waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+        task.run();
+      };
+    });
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+
+    //executor 는 빈 초기화 이후에 만들어지므로 값을 읽는 시점에 조회한다.
+    Gauge.builder("async.executor.queue.size", executor,
+            e -> e.getThreadPoolExecutor().getQueue().size())
+        .tag("executor", name)
+        .register(meterRegistry);
+    Gauge.builder("async.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+        .tag("executor", name)
+        .register(meterRegistry);
+
+    return executor;
+  }
+
+  private RejectedExecutionHandler rejectionHandler(RejectionPolicy policy) {
+    return switch (policy) {
+      case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+      case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+      case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+      case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+    };
+  }
+
+  private RejectedExecutionHandler countingRejection(RejectedExecutionHandler delegate,
+      Counter rejectedCounter) {
+    return (runnable, threadPoolExecutor) -> {
+      rejectedCounter.increment();
+      delegate.rejectedExecution(runnable, threadPoolExecutor);
+    };
+  }
+}
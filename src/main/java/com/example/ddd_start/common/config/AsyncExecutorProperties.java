@@ -0,0 +1,50 @@
+package com.example.ddd_start.common.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "async")
+public class AsyncExecutorProperties {
+
+  //key 는 executor 이름(order, member, catalog, import, default)
+  private Map<String, Pool> executors = new LinkedHashMap<>();
+
+  public Pool get(String name, Pool defaults) {
+    return executors.getOrDefault(name, defaults);
+  }
+
+  @Getter
+  @Setter
+  public static class Pool {
+
+    private int coreSize;
+    private int maxSize;
+    private int queueCapacity;
+    private RejectionPolicy rejectionPolicy;
+
+    public Pool() {
+      this(2, 4, 100, RejectionPolicy.CALLER_RUNS);
+    }
+
+    public Pool(int coreSize, int maxSize, int queueCapacity, RejectionPolicy rejectionPolicy) {
+      this.coreSize = coreSize;
+      this.maxSize = maxSize;
+      this.queueCapacity = queueCapacity;
+      this.rejectionPolicy = rejectionPolicy;
+    }
+  }
+
+  public enum RejectionPolicy {
+    ABORT,
+    CALLER_RUNS,
+    DISCARD,
+    DISCARD_OLDEST
+  }
+}
@@ -0,0 +1,8 @@
+package com.example.ddd_start.common.domain.exception;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+
+  public InvalidRefreshTokenException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,14 @@
+package com.example.ddd_start.common.domain.exception;
+
+import lombok.Getter;
+
+@Getter
+public class OutOfStockException extends RuntimeException {
+
+  private final Long productId;
+
+  public OutOfStockException(Long productId) {
+    super("재고가 부족합니다. productId=" + productId);
+    this.productId = productId;
+  }
+}
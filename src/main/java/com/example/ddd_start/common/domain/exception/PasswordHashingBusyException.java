@@ -0,0 +1,5 @@
+package com.example.ddd_start.common.domain.exception;
+
+public class PasswordHashingBusyException extends RuntimeException {
+
+}
@@ -0,0 +1,12 @@
+package com.example.ddd_start.common.domain.exception;
+
+public class ProductImportException extends RuntimeException {
+
+  public ProductImportException(String message) {
+    super(message);
+  }
+
+  public ProductImportException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
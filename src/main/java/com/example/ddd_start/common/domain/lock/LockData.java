@@ -6,13 +6,17 @@ import javax.persistence.Column;
 import javax.persistence.Embedded;
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "locks")
+@Table(name = "locks", indexes = {
+    @Index(name = "idx_locks_lock_id", columnList = "lock_id"),
+    @Index(name = "idx_locks_expiration_time", columnList = "expiration_time")
+})
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
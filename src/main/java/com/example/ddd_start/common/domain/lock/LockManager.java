@@ -1,13 +1,21 @@
 package com.example.ddd_start.common.domain.lock;
 
+import java.time.Duration;
+
 public interface LockManager {
 
   LockId tryLock(String type, String id) throws LockException;
 
+  //잠금이 풀리길 최대 wait 만큼 기다린다. 기다려도 얻지 못하면 tryLock 과 같은 예외를 던진다.
+  LockId tryLock(String type, String id, Duration wait) throws LockException;
+
   void checkLock(LockId lockId) throws LockException;
 
   void releaseLock(LockId lockId) throws LockException;
 
   void extendLockExpiration(LockId lockId, Long inc) throws LockException;
 
+  //만료 시각을 현재 시각 + lease 로 갱신한다.
+  void renewLock(LockId lockId) throws LockException;
+
 }
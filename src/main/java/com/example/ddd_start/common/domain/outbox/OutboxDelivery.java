@@ -0,0 +1,40 @@
+package com.example.ddd_start.common.domain.outbox;
+
+import java.io.Serializable;
+import java.time.Instant;
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * outbox 메시지를 어떤 리스너가 이미 처리했는지 기록한다. 재시도 시 실패한 리스너에게만 다시 전달하기 위해 사용하며,
+ * 메시지가 완료되면 함께 지운다.
+ */
+@Entity
+@Table(name = "outbox_delivery")
+@Getter
+@NoArgsConstructor
+public class OutboxDelivery {
+
+  @EmbeddedId
+  private Key id;
+  private Instant deliveredAt;
+
+  @Getter
+  @Embeddable
+  @EqualsAndHashCode
+  @AllArgsConstructor
+  @NoArgsConstructor
+  public static class Key implements Serializable {
+
+    private Long messageId;
+    @Column(length = 200)
+    private String listener;
+  }
+}
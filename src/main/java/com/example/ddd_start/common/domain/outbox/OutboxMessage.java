@@ -0,0 +1,48 @@
+package com.example.ddd_start.common.domain.outbox;
+
+import java.time.Instant;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 애그리거트와 같은 트랜잭션에서 저장되는 이벤트. relay 가 커밋된 메시지만 읽어 핸들러에 전달한다.
+ */
+@Entity
+@Table(name = "outbox_message", indexes = @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+@Getter
+@NoArgsConstructor
+public class OutboxMessage {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+  private String eventType;
+  @Column(columnDefinition = "text")
+  private String payload;
+  @Enumerated(EnumType.STRING)
+  @Column(length = 20)
+  private OutboxStatus status;
+  private Integer attempts;
+  private Instant createdAt;
+  private Instant processedAt;
+  //실패한 메시지는 이 시각 이후에만 다시 relay 된다.
+  private Instant nextAttemptAt;
+
+  public OutboxMessage(String eventType, String payload) {
+    this.eventType = eventType;
+    this.payload = payload;
+    this.status = OutboxStatus.PENDING;
+    this.attempts = 0;
+    this.createdAt = Instant.now();
+    this.nextAttemptAt = this.createdAt;
+  }
+}
@@ -0,0 +1,37 @@
+package com.example.ddd_start.common.domain.outbox;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+  //next_attempt_at 이 없는 메시지는 컬럼 추가 전에 저장된 것이므로 바로 relay 한다.
+  @Query("select m from OutboxMessage m where m.status = :status "
+      + "and (m.nextAttemptAt is null or m.nextAttemptAt <= :now) order by m.id")
+  List<OutboxMessage> findByStatus(@Param("status") OutboxStatus status, @Param("now") Instant now,
+      Pageable pageable);
+
+  @Modifying
+  @Query("update OutboxMessage m set m.status = :status, m.processedAt = :now where m.id in :ids")
+  int updateStatus(@Param("ids") List<Long> ids, @Param("status") OutboxStatus status,
+      @Param("now") Instant now);
+
+  @Modifying
+  @Query("update OutboxMessage m set m.attempts = m.attempts + 1 where m.id in :ids")
+  int incrementAttempts(@Param("ids") List<Long> ids);
+
+  @Modifying
+  @Query("update OutboxMessage m set m.nextAttemptAt = :nextAttemptAt where m.id in :ids")
+  int scheduleRetry(@Param("ids") List<Long> ids, @Param("nextAttemptAt") Instant nextAttemptAt);
+
+  @Modifying
+  @Query("update OutboxMessage m set m.status = :failed, m.processedAt = :now "
+      + "where m.id in :ids and m.attempts >= :maxAttempts")
+  int markFailedOverAttempts(@Param("ids") List<Long> ids, @Param("maxAttempts") int maxAttempts,
+      @Param("failed") OutboxStatus failed, @Param("now") Instant now);
+}
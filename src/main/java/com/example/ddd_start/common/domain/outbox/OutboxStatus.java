@@ -0,0 +1,7 @@
+package com.example.ddd_start.common.domain.outbox;
+
+public enum OutboxStatus {
+  PENDING,
+  DONE,
+  FAILED
+}
@@ -0,0 +1,24 @@
+package com.example.ddd_start.common.infrastructure.id;
+
+/**
+ * Hibernate enhanced-table 생성기로 id 를 블록 단위로 미리 할당받을 때 엔티티들이 같이 쓰는 설정값.
+ * IDENTITY 와 달리 insert 전에 id 가 정해지므로 Hibernate JDBC batch insert 가 동작한다.
+ *
+ * - id_allocation 테이블은 Hibernate 스키마 관리 대상이며, 엔티티 테이블 이름을 segment 로 한 행씩 쓴다.
+ * - pooled-lo 는 저장된 next_val 을 다음 블록의 시작값으로 쓰므로 이전에 할당한 블록과 겹치지 않는다.
+ * - segment 행이 없으면 1 부터 시작한다. IDENTITY 로 쌓인 데이터가 있는 테이블은 max(id) + 1 로 행을 먼저 넣어 둬야 한다.
+ * - 재시작하면 쓰지 않은 블록의 나머지는 버려지므로 id 에 빈 구간이 생길 수 있다.
+ */
+public final class PooledId {
+
+  public static final String NAME = "pooled-id";
+  public static final String STRATEGY = "enhanced-table";
+  public static final String TABLE = "id_allocation";
+  public static final String SEGMENT_COLUMN = "name";
+  public static final String VALUE_COLUMN = "next_val";
+  public static final String OPTIMIZER = "pooled-lo";
+  public static final String INCREMENT_SIZE = "50";
+
+  private PooledId() {
+  }
+}
@@ -0,0 +1,78 @@
+package com.example.ddd_start.common.infrastructure.lock;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * 만료 시각 기준으로 항목을 bucket 에 나눠 두고, tick 마다 현재 bucket 만 확인하는 hashed timer wheel.
+ * 꺼낸 항목의 실제 만료 시각을 다시 확인하므로 연장되었거나 한 바퀴 이상 남은 항목은 다시 배치한다.
+ * 만료 판정 자체는 조회 시점에 하므로 wheel 은 만료된 lease 의 메모리 회수만 담당한다.
+ */
+class LeaseTimerWheel<T> implements AutoCloseable {
+
+  private final long tickMillis;
+  private final Queue<T>[] wheel;
+  private final ToLongFunction<T> expiresAtMillis;
+  private final Consumer<T> onExpire;
+  private final ScheduledExecutorService ticker;
+  private volatile long currentTick;
+
+  @SuppressWarnings("unchecked")
+  LeaseTimerWheel(long tickMillis, int wheelSize, ToLongFunction<T> expiresAtMillis,
+      Consumer<T> onExpire) {
+    this.tickMillis = tickMillis;
+    this.wheel = new Queue[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      wheel[i] = new ConcurrentLinkedQueue<>();
+    }
+    this.expiresAtMillis = expiresAtMillis;
+    this.onExpire = onExpire;
+    this.currentTick = System.currentTimeMillis() / tickMillis;
+
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("lock-lease-wheel-");
+    threadFactory.setDaemon(true);
+    this.ticker = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    this.ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+  }
+
+  void schedule(T item) {
+    long tick = Math.max(expiresAtMillis.applyAsLong(item) / tickMillis, currentTick + 1);
+    wheel[(int) (tick % wheel.length)].offer(item);
+  }
+
+  private void tick() {
+    long now = System.currentTimeMillis();
+    long targetTick = now / tickMillis;
+
+    //tick 이 밀렸다면 지나간 bucket 까지 모두 처리한다.
+    for (long tick = currentTick; tick <= targetTick; tick++) {
+      Queue<T> bucket = wheel[(int) (tick % wheel.length)];
+      for (int size = bucket.size(); size > 0; size--) {
+        T item = bucket.poll();
+        if (item == null) {
+          break;
+        }
+        if (expiresAtMillis.applyAsLong(item) <= now) {
+          onExpire.accept(item);
+        } else {
+          schedule(item);
+        }
+      }
+      if (tick - currentTick >= wheel.length) {
+        break;
+      }
+    }
+    currentTick = targetTick;
+  }
+
+  @Override
+  public void close() {
+    ticker.shutdownNow();
+  }
+}
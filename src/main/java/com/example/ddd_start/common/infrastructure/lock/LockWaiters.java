@@ -0,0 +1,123 @@
+package com.example.ddd_start.common.infrastructure.lock;
+
+import com.example.ddd_start.common.domain.exception.AlreadyLockException;
+import com.example.ddd_start.common.domain.lock.LockId;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 잠금을 기다리는 스레드를 로컬에서 재운다. 같은 노드에서 해제되면 즉시 깨우고, 다른 노드의 해제나 만료는
+ * 상한이 있는 지수 backoff 로 다시 시도해 확인한다.
+ * 해제되지 않고 만료되거나 넘겨받은 lease 의 등록은 {@link #evictExpired(long)} 와 재등록 시 정리되고,
+ * 대기자가 없는 신호는 마지막 대기자가 떠날 때 지운다.
+ */
+class LockWaiters {
+
+  private static final long MIN_BACKOFF_MILLIS = 10;
+  private static final long MAX_BACKOFF_MILLIS = 200;
+
+  private final Map<String, CountDownLatch> signals = new ConcurrentHashMap<>();
+  private final Map<String, Registration> registrationsByLockId = new ConcurrentHashMap<>();
+  private final Map<String, String> lockIdsByResource = new ConcurrentHashMap<>();
+
+  LockId await(String type, String id, Duration wait, Supplier<LockId> attempt) {
+    String resource = resourceKey(type, id);
+    long deadline = System.nanoTime() + wait.toNanos();
+    long backoffMillis = MIN_BACKOFF_MILLIS;
+
+    while (true) {
+      //시도 전에 신호를 받아 두어야 실패 직후의 해제를 놓치지 않는다.
+      CountDownLatch signal = signals.computeIfAbsent(resource, k -> new CountDownLatch(1));
+      try {
+        return attempt.get();
+      } catch (AlreadyLockException e) {
+        long remainingNanos = deadline - System.nanoTime();
+        if (remainingNanos <= 0) {
+          //신호를 지우면서 같은 신호를 기다리던 대기자는 깨워 새 신호로 다시 기다리게 한다.
+          if (signals.remove(resource, signal)) {
+            signal.countDown();
+          }
+          throw e;
+        }
+
+        long jitter = ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1);
+        long parkNanos = Math.min(remainingNanos,
+            TimeUnit.MILLISECONDS.toNanos(backoffMillis / 2 + jitter));
+        awaitSignal(signal, parkNanos, e);
+        backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+      }
+    }
+  }
+
+  //잠금을 얻은 쪽이 등록해 두어야 이 노드에서 해제될 때 대기자를 깨울 수 있다.
+  //만료된 lease 를 넘겨받은 경우 같은 자원의 이전 등록은 지운다.
+  void acquired(String type, String id, LockId lockId, long expiresAtMillis) {
+    String resource = resourceKey(type, id);
+    registrationsByLockId.put(lockId.getValue(), new Registration(resource, expiresAtMillis));
+    String previous = lockIdsByResource.put(resource, lockId.getValue());
+    if (previous != null && !previous.equals(lockId.getValue())) {
+      registrationsByLockId.remove(previous);
+    }
+  }
+
+  void renewed(LockId lockId, long expiresAtMillis) {
+    Registration registration = registrationsByLockId.get(lockId.getValue());
+    if (registration != null) {
+      registration.expiresAtMillis = expiresAtMillis;
+    }
+  }
+
+  //해제뿐 아니라 만료, 연장 실패처럼 이 노드가 lease 를 잃은 경우에도 호출한다.
+  void released(LockId lockId) {
+    Registration registration = registrationsByLockId.remove(lockId.getValue());
+    if (registration == null) {
+      return;
+    }
+    lockIdsByResource.remove(registration.resource, lockId.getValue());
+    CountDownLatch signal = signals.remove(registration.resource);
+    if (signal != null) {
+      signal.countDown();
+    }
+  }
+
+  //해제되지 않고 만료된 lease 의 등록을 지우고 기다리던 스레드를 깨운다.
+  int evictExpired(long nowMillis) {
+    int evicted = 0;
+    for (Map.Entry<String, Registration> entry : registrationsByLockId.entrySet()) {
+      if (entry.getValue().expiresAtMillis < nowMillis) {
+        released(new LockId(entry.getKey()));
+        evicted++;
+      }
+    }
+    return evicted;
+  }
+
+  private void awaitSignal(CountDownLatch signal, long nanos, AlreadyLockException cause) {
+    try {
+      signal.await(nanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw cause;
+    }
+  }
+
+  private String resourceKey(String type, String id) {
+    return type + ":" + id;
+  }
+
+  private static final class Registration {
+
+    private final String resource;
+    private volatile long expiresAtMillis;
+
+    Registration(String resource, long expiresAtMillis) {
+      this.resource = resource;
+      this.expiresAtMillis = expiresAtMillis;
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.example.ddd_start.common.infrastructure.lock;
+
+import com.example.ddd_start.common.domain.exception.NoLockException;
+import com.example.ddd_start.common.domain.lock.LockId;
+import com.example.ddd_start.common.domain.lock.LockManager;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오래 걸리는 작업이 잡고 있는 lock 의 lease 를 주기적으로 갱신한다. lock.watchdog.enabled=true 일 때만 등록된다.
+ * 작업이 끝나면 반드시 unwatch 한 뒤 releaseLock 해야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "lock.watchdog.enabled", havingValue = "true")
+public class LockWatchdog {
+
+  private final LockManager lockManager;
+  private final Set<String> watchedLockIds = ConcurrentHashMap.newKeySet();
+
+  public void watch(LockId lockId) {
+    watchedLockIds.add(lockId.getValue());
+  }
+
+  public void unwatch(LockId lockId) {
+    watchedLockIds.remove(lockId.getValue());
+  }
+
+  //lease 의 1/3 정도 간격으로 실행해 한 번 실패해도 만료 전에 다시 갱신할 수 있도록 한다.
+  @Scheduled(fixedDelayString = "${lock.watchdog.interval-millis:20000}")
+  public void renewWatchedLocks() {
+    for (String lockId : watchedLockIds) {
+      try {
+        lockManager.renewLock(new LockId(lockId));
+      } catch (NoLockException e) {
+        watchedLockIds.remove(lockId);
+        log.warn("lease 가 이미 만료되어 갱신을 중단합니다: lockId={}", lockId);
+      } catch (RuntimeException e) {
+        log.warn("lease 갱신 실패: lockId={}", lockId, e);
+      }
+    }
+  }
+}
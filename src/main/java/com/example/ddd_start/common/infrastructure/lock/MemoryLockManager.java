@@ -0,0 +1,195 @@
+package com.example.ddd_start.common.infrastructure.lock;
+
+import com.example.ddd_start.common.domain.exception.AlreadyLockException;
+import com.example.ddd_start.common.domain.exception.NoLockException;
+import com.example.ddd_start.common.domain.lock.LockException;
+import com.example.ddd_start.common.domain.lock.LockId;
+import com.example.ddd_start.common.domain.lock.LockManager;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드, 테스트용 LockManager. DB 대신 ConcurrentHashMap 에 lease 를 보관한다.
+ * 자원별 선점은 ConcurrentHashMap.compute 의 bin 단위 잠금으로 원자적으로 처리된다.
+ */
+@Component
+@ConditionalOnProperty(name = "lock.manager", havingValue = "memory")
+public class MemoryLockManager implements LockManager, DisposableBean {
+
+  private static final long TICK_MILLIS = 100;
+  private static final int WHEEL_SIZE = 512;
+
+  private final Duration leaseTime;
+  private final Map<LockKey, Lease> leasesByResource = new ConcurrentHashMap<>();
+  private final Map<String, Lease> leasesByLockId = new ConcurrentHashMap<>();
+  private final LeaseTimerWheel<Lease> timerWheel;
+  private final LockWaiters lockWaiters = new LockWaiters();
+
+  public MemoryLockManager(@Value("${lock.lease-seconds:60}") long leaseSeconds) {
+    this.leaseTime = Duration.ofSeconds(leaseSeconds);
+    this.timerWheel = new LeaseTimerWheel<>(
+        TICK_MILLIS, WHEEL_SIZE, Lease::expiresAtMillis, this::remove);
+  }
+
+  @Override
+  public LockId tryLock(String type, String id) throws LockException {
+    long now = System.currentTimeMillis();
+    LockKey key = new LockKey(type, id);
+    Lease newLease = new Lease(key, UUID.randomUUID().toString(), now + leaseTime.toMillis());
+    Lease[] expired = new Lease[1];
+
+    Lease current = leasesByResource.compute(key, (k, existing) -> {
+      if (existing == null) {
+        return newLease;
+      }
+      if (existing.isExpired(now)) {
+        expired[0] = existing;
+        return newLease;
+      }
+      return existing;
+    });
+
+    if (current != newLease) {
+      throw new AlreadyLockException();
+    }
+    if (expired[0] != null) {
+      leasesByLockId.remove(expired[0].lockId(), expired[0]);
+    }
+
+    leasesByLockId.put(newLease.lockId(), newLease);
+    timerWheel.schedule(newLease);
+
+    LockId lockId = new LockId(newLease.lockId());
+    lockWaiters.acquired(type, id, lockId, newLease.expiresAtMillis());
+    return lockId;
+  }
+
+  @Override
+  public LockId tryLock(String type, String id, Duration wait) throws LockException {
+    return lockWaiters.await(type, id, wait, () -> tryLock(type, id));
+  }
+
+  @Override
+  public void checkLock(LockId lockId) throws LockException {
+    getLease(lockId);
+  }
+
+  @Override
+  public void releaseLock(LockId lockId) throws LockException {
+    Lease lease = leasesByLockId.get(lockId.getValue());
+    if (lease != null) {
+      remove(lease);
+    } else {
+      lockWaiters.released(lockId);
+    }
+  }
+
+  @Override
+  public void extendLockExpiration(LockId lockId, Long inc) throws LockException {
+    Lease lease = getLease(lockId);
+    if (!lease.extend(System.currentTimeMillis(), Duration.ofMinutes(inc).toMillis())) {
+      remove(lease);
+      throw new NoLockException();
+    }
+    lockWaiters.renewed(lockId, lease.expiresAtMillis());
+  }
+
+  @Override
+  public void renewLock(LockId lockId) throws LockException {
+    Lease lease = getLease(lockId);
+    if (!lease.renew(System.currentTimeMillis(), leaseTime.toMillis())) {
+      remove(lease);
+      throw new NoLockException();
+    }
+    lockWaiters.renewed(lockId, lease.expiresAtMillis());
+  }
+
+  private Lease getLease(LockId lockId) {
+    Lease lease = leasesByLockId.get(lockId.getValue());
+    if (lease == null) {
+      throw new NoLockException();
+    }
+    if (lease.isExpired(System.currentTimeMillis())) {
+      remove(lease);
+      throw new NoLockException();
+    }
+    return lease;
+  }
+
+  //해제, 만료(timer wheel), 연장 실패 모두 여기로 모이므로 대기자 등록도 함께 정리한다.
+  private void remove(Lease lease) {
+    leasesByLockId.remove(lease.lockId(), lease);
+    leasesByResource.remove(lease.key(), lease);
+    lockWaiters.released(new LockId(lease.lockId()));
+  }
+
+  @Override
+  public void destroy() {
+    timerWheel.close();
+  }
+
+  private record LockKey(String type, String id) {
+
+  }
+
+  private static final class Lease {
+
+    private final LockKey key;
+    private final String lockId;
+    private final AtomicLong expiresAtMillis;
+
+    Lease(LockKey key, String lockId, long expiresAtMillis) {
+      this.key = key;
+      this.lockId = lockId;
+      this.expiresAtMillis = new AtomicLong(expiresAtMillis);
+    }
+
+    LockKey key() {
+      return key;
+    }
+
+    String lockId() {
+      return lockId;
+    }
+
+    long expiresAtMillis() {
+      return expiresAtMillis.get();
+    }
+
+    boolean isExpired(long now) {
+      return expiresAtMillis.get() < now;
+    }
+
+    //이미 만료되어 다른 요청이 선점했을 수 있는 lease 는 연장하지 않는다.
+    boolean extend(long now, long millis) {
+      while (true) {
+        long current = expiresAtMillis.get();
+        if (current < now) {
+          return false;
+        }
+        if (expiresAtMillis.compareAndSet(current, current + millis)) {
+          return true;
+        }
+      }
+    }
+
+    boolean renew(long now, long leaseMillis) {
+      while (true) {
+        long current = expiresAtMillis.get();
+        if (current < now) {
+          return false;
+        }
+        if (expiresAtMillis.compareAndSet(current, Math.max(current, now + leaseMillis))) {
+          return true;
+        }
+      }
+    }
+  }
+}
@@ -1,118 +1,190 @@
 package com.example.ddd_start.common.infrastructure.lock;
 
 import com.example.ddd_start.common.domain.exception.AlreadyLockException;
-import com.example.ddd_start.common.domain.exception.LockingFailException;
 import com.example.ddd_start.common.domain.exception.NoLockException;
-import com.example.ddd_start.common.domain.lock.LockData;
-import com.example.ddd_start.common.domain.lock.LockDataId;
 import com.example.ddd_start.common.domain.lock.LockException;
 import com.example.ddd_start.common.domain.lock.LockId;
 import com.example.ddd_start.common.domain.lock.LockManager;
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DuplicateKeyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "lock.manager", havingValue = "jdbc", matchIfMissing = true)
 public class SpringLockManager implements LockManager {
 
-  private static final long LOCK_TIME_OUT = 1;
-  private final JdbcTemplate jdbcTemplate;
+  private static final int REAPER_BATCH_SIZE = 500;
+  private static final String REAPER_LOCK_TYPE = "lock-reaper";
+  private static final String REAPER_LOCK_ID = "locks";
 
-  private RowMapper<LockData> lockDataRowMapper = (rs, rowNum) ->
-      new LockData(rs.getObject(1, LockDataId.class),
-          rs.getObject(2, LockId.class),
-          rs.getObject(3, Instant.class));
+  private final JdbcTemplate jdbcTemplate;
+  private final Duration leaseTime;
+  private final TransactionTemplate requiresNew;
+  private final LockWaiters lockWaiters = new LockWaiters();
+
+  public SpringLockManager(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${lock.lease-seconds:60}") long leaseSeconds) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.leaseTime = Duration.ofSeconds(leaseSeconds);
+    this.requiresNew = new TransactionTemplate(transactionManager);
+    this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
 
-  @Transactional(propagation = Propagation.REQUIRES_NEW)
   @Override
   public LockId tryLock(String type, String id) throws LockException {
-    checkAlreadyLocked(type, id);
-    LockId lockId = new LockId(UUID.randomUUID().toString());
-    locking(type, id, lockId);
+    long expiresAtMillis = System.currentTimeMillis() + leaseTime.toMillis();
+    LockId lockId;
+    try {
+      lockId = requiresNew.execute(status -> acquire(type, id));
+    } catch (PessimisticLockingFailureException e) {
+      //같은 키를 동시에 잡으려다 lock wait timeout 이나 deadlock 으로 밀려난 경우도 선점 실패로 본다.
+      throw new AlreadyLockException();
+    }
+    lockWaiters.acquired(type, id, lockId, expiresAtMillis);
     return lockId;
   }
 
-  private void checkAlreadyLocked(String type, String id) {
-    List<LockData> locks = jdbcTemplate.query(
-        "select * from locks where type = ? and id = ?",
-        lockDataRowMapper, type, id);
-    Optional<LockData> lockData = handleExpiration(locks);
-    if (lockData.isPresent()) {
-      throw new AlreadyLockException();
-    }
+  //시도마다 별도 트랜잭션으로 커밋하므로 기다리는 동안 커넥션이나 row lock 을 잡고 있지 않는다.
+  @Override
+  public LockId tryLock(String type, String id, Duration wait) throws LockException {
+    return lockWaiters.await(type, id, wait, () -> tryLock(type, id));
   }
 
-  private Optional<LockData> handleExpiration(List<LockData> locks) {
-    if(locks.isEmpty()) return Optional.empty();
-
-    LockData lockData = locks.get(0);
-    if (lockData.isExpired()) {
-      jdbcTemplate.update(
-          "delete  from locks where type =? and id = ?",
-          lockData.getLockDataId().getType(), lockData.getLockDataId().getId()
-      );
-      return Optional.empty();
-    } else {
-      return Optional.of(lockData);
+  //upsert 한 문장으로 새 키는 만들고, 이미 있으면 만료된 row 에 한해서만 넘겨받는다.
+  //lock_id 를 먼저 바꾸므로 expiration_time 의 조건은 바뀌기 전 값을 본다.
+  //갱신 건수는 드라이버 설정(found rows)에 따라 달라지므로 같은 트랜잭션에서 lock_id 를 다시 읽어 판단한다.
+  private LockId acquire(String type, String id) {
+    Instant now = Instant.now();
+    LockId lockId = new LockId(UUID.randomUUID().toString());
+    Timestamp expirationTime = Timestamp.from(now.plus(leaseTime));
+    Timestamp nowTime = Timestamp.from(now);
+
+    jdbcTemplate.update(
+        "insert into locks (type, id, lock_id, expiration_time) values (?, ?, ?, ?) "
+            + "on duplicate key update "
+            + "lock_id = case when expiration_time < ? then values(lock_id) else lock_id end, "
+            + "expiration_time = case when expiration_time < ? "
+            + "then values(expiration_time) else expiration_time end",
+        type, id, lockId.getValue(), expirationTime, nowTime, nowTime);
+
+    String owner = jdbcTemplate.queryForObject(
+        "select lock_id from locks where type = ? and id = ?", String.class, type, id);
+    if (!lockId.getValue().equals(owner)) {
+      throw new AlreadyLockException();
     }
+    return lockId;
   }
 
-  private void locking(String type, String id, LockId lockId) {
-    try {
-      int updatedCount = jdbcTemplate.update(
-          "insert into locks values (?, ?, ?, ?)",
-          type, id, lockId.getValue(), Instant.now().plus(LOCK_TIME_OUT, ChronoUnit.MINUTES));
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  @Override
+  public void checkLock(LockId lockId) throws LockException {
+    Integer count = jdbcTemplate.queryForObject(
+        "select count(*) from locks where lock_id = ? and expiration_time >= ?",
+        Integer.class, lockId.getValue(), Timestamp.from(Instant.now()));
 
-      if (updatedCount == 0) {
-        throw new LockingFailException();
-      }
-    } catch (DuplicateKeyException e) {
-      throw new LockingFailException();
+    if (count == null || count == 0) {
+      lockWaiters.released(lockId);
+      throw new NoLockException();
     }
   }
 
+  //대기자는 삭제가 커밋된 뒤에 깨워야 곧바로 insert 할 수 있다.
+  @Override
+  public void releaseLock(LockId lockId) throws LockException {
+    requiresNew.executeWithoutResult(status -> jdbcTemplate.update(
+        "delete from locks where lock_id = ?", lockId.getValue()));
+    lockWaiters.released(lockId);
+  }
+
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   @Override
-  public void checkLock(LockId lockId) throws LockException {
-    Optional<LockData> lockData = getLockData(lockId);
-    if (!lockData.isPresent()) {
+  public void extendLockExpiration(LockId lockId, Long inc) throws LockException {
+    List<Timestamp> expirationTimes = jdbcTemplate.queryForList(
+        "select expiration_time from locks where lock_id = ? and expiration_time >= ?",
+        Timestamp.class, lockId.getValue(), Timestamp.from(Instant.now()));
+
+    if (expirationTimes.isEmpty()) {
+      lockWaiters.released(lockId);
       throw new NoLockException();
     }
-  }
 
-  private Optional<LockData> getLockData(LockId lockId) {
-    List<LockData> lockData = jdbcTemplate.query(
-        "select * from locks where lock_id = ?",
-        lockDataRowMapper, lockId.getValue());
+    Timestamp current = expirationTimes.get(0);
+    Instant extended = current.toInstant().plus(inc, ChronoUnit.MINUTES);
+    int updatedCount = jdbcTemplate.update(
+        "update locks set expiration_time = ? where lock_id = ? and expiration_time = ?",
+        Timestamp.from(extended), lockId.getValue(), current);
 
-    return handleExpiration(lockData);
+    if (updatedCount == 0) {
+      lockWaiters.released(lockId);
+      throw new NoLockException();
+    }
+    lockWaiters.renewed(lockId, extended.toEpochMilli());
   }
 
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   @Override
-  public void releaseLock(LockId lockId) throws LockException {
-    jdbcTemplate.update(
-        "delete from locks where lock_id = ?", lockId.getValue());
+  public void renewLock(LockId lockId) throws LockException {
+    Instant now = Instant.now();
+    Instant expiresAt = now.plus(leaseTime);
+    int updatedCount = jdbcTemplate.update(
+        "update locks set expiration_time = ? where lock_id = ? and expiration_time >= ?",
+        Timestamp.from(expiresAt), lockId.getValue(), Timestamp.from(now));
+
+    if (updatedCount == 0) {
+      lockWaiters.released(lockId);
+      throw new NoLockException();
+    }
+    lockWaiters.renewed(lockId, expiresAt.toEpochMilli());
   }
 
-  @Override
-  public void extendLockExpiration(LockId lockId, Long inc) throws LockException {
-    Optional<LockData> lockDataOpt = getLockData(lockId);
-    LockData lockData = lockDataOpt.orElseThrow(NoLockException::new);
+  //만료된 lock 은 요청 경로가 아닌 이 작업에서 일정 크기씩 나눠 삭제한다.
+  //삭제는 locks 테이블의 lock 을 잡은 노드 하나만 하고, 대기자 정리는 노드마다 자기 메모리에 대해 한다.
+  @Scheduled(fixedDelayString = "${lock.reaper-interval-millis:60000}")
+  public void deleteExpiredLocks() {
+    Timestamp now = Timestamp.from(Instant.now());
+    try {
+      LockId reaperLock = tryLock(REAPER_LOCK_TYPE, REAPER_LOCK_ID);
+      try {
+        deleteExpired(now);
+      } finally {
+        releaseLock(reaperLock);
+      }
+    } catch (AlreadyLockException e) {
+      log.debug("다른 노드가 만료된 lock 을 정리하고 있습니다.");
+    }
+    //해제되지 않고 만료된 이 노드의 lease 는 대기자 등록에서도 지운다.
+    lockWaiters.evictExpired(now.getTime());
+  }
 
-    jdbcTemplate.update(
-        "update locks set expiration_time = ? where type =? and id = ?",
-        lockData.getExpiration_time().plus(inc, ChronoUnit.MINUTES),
-        lockData.getLockDataId().getType(), lockData.getLockDataId().getId());
+  private void deleteExpired(Timestamp now) {
+    int total = 0;
+    int deleted;
+
+    do {
+      deleted = jdbcTemplate.update(
+          "delete from locks where expiration_time < ? limit " + REAPER_BATCH_SIZE, now);
+      total += deleted;
+    } while (deleted == REAPER_BATCH_SIZE);
+
+    if (total > 0) {
+      log.info("만료된 lock {}건을 삭제했습니다.", total);
+    }
   }
 }
@@ -0,0 +1,64 @@
+package com.example.ddd_start.common.infrastructure.outbox;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * outbox_delivery 를 batch 로 읽고 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxDeliveryJdbcRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+  //메시지 id 별로 이미 처리한 리스너 이름을 돌려준다.
+  public Map<Long, Set<String>> findDelivered(Collection<Long> messageIds) {
+    Map<Long, Set<String>> delivered = new HashMap<>();
+    if (messageIds.isEmpty()) {
+      return delivered;
+    }
+    namedParameterJdbcTemplate.query(
+        "select message_id, listener from outbox_delivery where message_id in (:ids)",
+        new MapSqlParameterSource("ids", messageIds),
+        rs -> {
+          delivered.computeIfAbsent(rs.getLong("message_id"), k -> new HashSet<>())
+              .add(rs.getString("listener"));
+        });
+    return delivered;
+  }
+
+  public void saveAll(Map<String, List<Long>> messageIdsByListener, Instant deliveredAt) {
+    List<Object[]> rows = new ArrayList<>();
+    Timestamp timestamp = Timestamp.from(deliveredAt);
+    messageIdsByListener.forEach((listener, messageIds) ->
+        messageIds.forEach(messageId -> rows.add(new Object[]{messageId, listener, timestamp})));
+    if (rows.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(
+        "insert into outbox_delivery (message_id, listener, delivered_at) values (?, ?, ?)", rows);
+  }
+
+  public void deleteByMessageIds(Collection<Long> messageIds) {
+    if (messageIds.isEmpty()) {
+      return;
+    }
+    namedParameterJdbcTemplate.update(
+        "delete from outbox_delivery where message_id in (:ids)",
+        new MapSqlParameterSource("ids", messageIds));
+  }
+}
@@ -0,0 +1,211 @@
+package com.example.ddd_start.common.infrastructure.outbox;
+
+import com.example.ddd_start.common.application.event.BatchEventDispatcher;
+import com.example.ddd_start.common.application.event.BatchEventListener;
+import com.example.ddd_start.common.domain.exception.AlreadyLockException;
+import com.example.ddd_start.common.domain.lock.LockId;
+import com.example.ddd_start.common.domain.lock.LockManager;
+import com.example.ddd_start.common.domain.outbox.OutboxMessage;
+import com.example.ddd_start.common.domain.outbox.OutboxMessageRepository;
+import com.example.ddd_start.common.domain.outbox.OutboxStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 커밋된 outbox 메시지를 batch 로 읽어 리스너별로 {@link BatchEventDispatcher} 에 전달하고, 결과를 batch update 로 기록한다.
+ * 일부 리스너만 실패한 메시지는 성공한 리스너를 outbox_delivery 에 남겨 두고, 다음 재시도에서는 실패한 리스너에게만 보낸다.
+ * 실패한 메시지는 시도 횟수에 따라 지수적으로 늘어나는 next_attempt_at 이후에만 다시 읽는다.
+ * 여러 노드가 떠 있어도 LockManager 로 한 노드에서만 실행된다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+  private static final String LOCK_TYPE = "outbox";
+  private static final String LOCK_ID = "relay";
+
+  private final OutboxMessageRepository outboxMessageRepository;
+  private final BatchEventDispatcher batchEventDispatcher;
+  private final OutboxDeliveryJdbcRepository outboxDeliveryJdbcRepository;
+  private final LockManager lockManager;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final Duration retryBase;
+  private final Duration retryMax;
+
+  public OutboxRelay(
+      OutboxMessageRepository outboxMessageRepository,
+      BatchEventDispatcher batchEventDispatcher,
+      OutboxDeliveryJdbcRepository outboxDeliveryJdbcRepository,
+      LockManager lockManager,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      @Value("${outbox.batch-size:500}") int batchSize,
+      @Value("${outbox.max-attempts:5}") int maxAttempts,
+      @Value("${outbox.retry-base-millis:1000}") long retryBaseMillis,
+      @Value("${outbox.retry-max-millis:300000}") long retryMaxMillis) {
+    this.outboxMessageRepository = outboxMessageRepository;
+    this.batchEventDispatcher = batchEventDispatcher;
+    this.outboxDeliveryJdbcRepository = outboxDeliveryJdbcRepository;
+    this.lockManager = lockManager;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.retryBase = Duration.ofMillis(retryBaseMillis);
+    this.retryMax = Duration.ofMillis(retryMaxMillis);
+  }
+
+  @Scheduled(fixedDelayString = "${outbox.poll-interval-millis:1000}")
+  public void relay() {
+    LockId lockId;
+    try {
+      lockId = lockManager.tryLock(LOCK_TYPE, LOCK_ID);
+    } catch (AlreadyLockException e) {
+      return;
+    }
+
+    try {
+      //가득 찬 batch 를 읽었다면 밀린 메시지가 더 있으므로 바로 이어서 처리한다.
+      //실패가 섞인 batch 라면 리스너 쪽 장애일 수 있으므로 다음 poll 까지 기다린다.
+      BatchResult result = relayBatch();
+      while (result.size() == batchSize && !result.hadFailures()) {
+        lockManager.renewLock(lockId);
+        result = relayBatch();
+      }
+    } finally {
+      lockManager.releaseLock(lockId);
+    }
+  }
+
+  private BatchResult relayBatch() {
+    List<OutboxMessage> messages = outboxMessageRepository.findByStatus(
+        OutboxStatus.PENDING, Instant.now(), PageRequest.of(0, batchSize));
+    if (messages.isEmpty()) {
+      return new BatchResult(0, false);
+    }
+
+    Set<Long> failed = new HashSet<>();
+    Map<Long, Object> events = new LinkedHashMap<>();
+    for (OutboxMessage message : messages) {
+      try {
+        events.put(message.getId(), deserialize(message));
+      } catch (Exception e) {
+        log.error("outbox 메시지를 역직렬화할 수 없습니다: id={}", message.getId(), e);
+        failed.add(message.getId());
+      }
+    }
+
+    //리스너마다 아직 처리하지 않은 메시지만 보낸다. 한 리스너의 실패가 다른 리스너의 재처리로 이어지지 않는다.
+    Map<Long, Set<String>> delivered = outboxDeliveryJdbcRepository.findDelivered(events.keySet());
+    Map<String, List<Long>> newlyDelivered = new HashMap<>();
+    Map<String, CompletableFuture<Set<Long>>> results = new HashMap<>();
+    Map<String, Set<Long>> pendingByListener = new HashMap<>();
+    for (BatchEventListener<?> listener : batchEventDispatcher.getListeners()) {
+      String name = batchEventDispatcher.listenerName(listener);
+      Map<Long, Object> pending = new LinkedHashMap<>();
+      events.forEach((id, event) -> {
+        if (listener.eventType().isInstance(event)
+            && !delivered.getOrDefault(id, Set.of()).contains(name)) {
+          pending.put(id, event);
+        }
+      });
+      if (pending.isEmpty()) {
+        continue;
+      }
+      pendingByListener.put(name, pending.keySet());
+      results.put(name, batchEventDispatcher.deliverAsync(listener, pending));
+    }
+
+    results.forEach((name, result) -> {
+      Set<Long> listenerFailed;
+      try {
+        listenerFailed = result.join();
+      } catch (CompletionException e) {
+        log.error("outbox 리스너 실행 실패: listener={}", name, e);
+        listenerFailed = pendingByListener.get(name);
+      }
+      failed.addAll(listenerFailed);
+      Set<Long> excluded = listenerFailed;
+      newlyDelivered.put(name, pendingByListener.get(name).stream()
+          .filter(id -> !excluded.contains(id))
+          .toList());
+    });
+
+    List<Long> done = events.keySet().stream()
+        .filter(id -> !failed.contains(id))
+        .toList();
+    Map<Long, Integer> attempts = new HashMap<>();
+    messages.forEach(message -> attempts.put(message.getId(), message.getAttempts()));
+    record(done, List.copyOf(failed), newlyDelivered, attempts);
+    return new BatchResult(messages.size(), !failed.isEmpty());
+  }
+
+  private void record(List<Long> done, List<Long> failed,
+      Map<String, List<Long>> newlyDelivered, Map<Long, Integer> attempts) {
+    Instant now = Instant.now();
+    transactionTemplate.executeWithoutResult(status -> {
+      if (!done.isEmpty()) {
+        outboxMessageRepository.updateStatus(done, OutboxStatus.DONE, now);
+        outboxDeliveryJdbcRepository.deleteByMessageIds(done);
+      }
+      if (!failed.isEmpty()) {
+        //완료되지 않은 메시지만 리스너별 처리 기록을 남겨 다음 재시도에서 건너뛴다.
+        Map<String, List<Long>> partial = new HashMap<>();
+        newlyDelivered.forEach((name, ids) -> partial.put(name, ids.stream()
+            .filter(failed::contains)
+            .toList()));
+        outboxDeliveryJdbcRepository.saveAll(partial, now);
+        outboxMessageRepository.incrementAttempts(failed);
+        //같은 시도 횟수끼리 묶어 한 번의 update 로 다음 시도 시각을 기록한다.
+        Map<Integer, List<Long>> byAttempts = new HashMap<>();
+        failed.forEach(id -> byAttempts
+            .computeIfAbsent(attempts.getOrDefault(id, 0), k -> new ArrayList<>())
+            .add(id));
+        byAttempts.forEach((attempt, ids) ->
+            outboxMessageRepository.scheduleRetry(ids, now.plus(backoff(attempt))));
+        outboxMessageRepository.markFailedOverAttempts(
+            failed, maxAttempts, OutboxStatus.FAILED, now);
+      }
+    });
+  }
+
+  /**
+   * 이번이 {@code attempt + 1} 번째 실패일 때 다음 시도까지 기다릴 시간. retryBase * 2^attempt, 최대 retryMax.
+   */
+  private Duration backoff(int attempt) {
+    if (attempt >= 30) {
+      return retryMax;
+    }
+    Duration delay = retryBase.multipliedBy(1L << attempt);
+    return delay.compareTo(retryMax) > 0 ? retryMax : delay;
+  }
+
+  private Object deserialize(OutboxMessage message) throws Exception {
+    Class<?> eventType = Class.forName(message.getEventType());
+    return objectMapper.readValue(message.getPayload(), eventType);
+  }
+
+  private record BatchResult(int size, boolean hadFailures) {
+
+  }
+}
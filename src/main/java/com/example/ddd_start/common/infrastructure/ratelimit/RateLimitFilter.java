@@ -0,0 +1,112 @@
+package com.example.ddd_start.common.infrastructure.ratelimit;
+
+import com.example.ddd_start.auth.model.MemberPrincipal;
+import com.example.ddd_start.common.infrastructure.ratelimit.RateLimitProperties.KeyType;
+import com.example.ddd_start.common.infrastructure.ratelimit.RateLimitProperties.Route;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 설정된 route 에 대해 IP, 회원 단위로 요청 수를 제한한다. 인증 정보를 쓰기 위해 JWT 필터 뒤에 둔다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private final RateLimiter rateLimiter;
+  private final RateLimitProperties properties;
+  private final List<Entry<String, AntPathRequestMatcher>> matchers;
+
+  public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties) {
+    this.rateLimiter = rateLimiter;
+    this.properties = properties;
+    this.matchers = properties.getRoutes().entrySet().stream()
+        .map(e -> Map.entry(e.getKey(),
+            new AntPathRequestMatcher(e.getValue().getPath(), e.getValue().getMethod())))
+        .toList();
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain chain) throws ServletException, IOException {
+    if (properties.isEnabled()) {
+      List<Entry<String, String>> acquired = new ArrayList<>();
+      for (Entry<String, AntPathRequestMatcher> matcher : matchers) {
+        if (!matcher.getValue().matches(request)) {
+          continue;
+        }
+
+        String routeName = matcher.getKey();
+        long waitNanos = acquire(routeName, properties.getRoutes().get(routeName), request,
+            acquired);
+        if (waitNanos > 0) {
+          //하나라도 거절되면 이미 소비한 다른 bucket 의 토큰은 돌려준다.
+          acquired.forEach(entry -> rateLimiter.refund(entry.getKey(), entry.getValue()));
+          reject(response, waitNanos);
+          return;
+        }
+      }
+    }
+
+    chain.doFilter(request, response);
+  }
+
+  //거절되면 나머지 키는 소비하지 않고 바로 대기 시간을 돌려준다. 소비한 키는 acquired 에 쌓는다.
+  private long acquire(String routeName, Route route, HttpServletRequest request,
+      List<Entry<String, String>> acquired) {
+    for (KeyType keyType : route.getKeys()) {
+      String key = resolveKey(keyType, request);
+      if (key == null) {
+        continue;
+      }
+      long waitNanos = rateLimiter.tryAcquire(routeName, route, key);
+      if (waitNanos > 0) {
+        return waitNanos;
+      }
+      acquired.add(Map.entry(routeName, key));
+    }
+    return 0;
+  }
+
+  //USER 키는 인증된 요청에만 적용한다.
+  private String resolveKey(KeyType keyType, HttpServletRequest request) {
+    if (keyType == KeyType.IP) {
+      return "ip:" + request.getRemoteAddr();
+    }
+
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+      return null;
+    }
+    if (authentication.getPrincipal() instanceof MemberPrincipal principal
+        && principal.getMemberId() != null) {
+      return "member:" + principal.getMemberId();
+    }
+    return "user:" + authentication.getName();
+  }
+
+  private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+    long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.getWriter().write("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+  }
+}
@@ -0,0 +1,40 @@
+package com.example.ddd_start.common.infrastructure.ratelimit;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+  private boolean enabled = true;
+  //이 시간 동안 요청이 없어 가득 찬 bucket 은 제거한다.
+  private Duration idleTimeout = Duration.ofMinutes(10);
+  private Map<String, Route> routes = new LinkedHashMap<>();
+
+  @Getter
+  @Setter
+  public static class Route {
+
+    private String method;
+    private String path;
+    //순간적으로 허용하는 최대 요청 수
+    private int capacity = 10;
+    //capacity 만큼의 토큰이 다시 채워지는 시간
+    private Duration period = Duration.ofMinutes(1);
+    private List<KeyType> keys = List.of(KeyType.IP);
+  }
+
+  public enum KeyType {
+    IP,
+    USER
+  }
+}
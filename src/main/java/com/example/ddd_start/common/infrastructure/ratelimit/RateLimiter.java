@@ -0,0 +1,84 @@
+package com.example.ddd_start.common.infrastructure.ratelimit;
+
+import com.example.ddd_start.common.infrastructure.ratelimit.RateLimitProperties.Route;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * route, key 별 token bucket 저장소. ConcurrentHashMap 의 bin 단위 잠금 위에서 bucket 자체는 CAS 로만 갱신한다.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+  private final RateLimitProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final LongSupplier nanoClock;
+  private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+  private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+  @Autowired
+  public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+    this(properties, meterRegistry, System::nanoTime);
+  }
+
+  //테스트에서 시간을 직접 움직일 수 있도록 시계를 받는다.
+  RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry,
+      LongSupplier nanoClock) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.nanoClock = nanoClock;
+    Gauge.builder("rate.limit.buckets", buckets, Map::size)
+        .description("메모리에 유지 중인 token bucket 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 허용되면 0, 거절되면 재시도까지 남은 nanos 를 돌려준다.
+   */
+  public long tryAcquire(String routeName, Route route, String key) {
+    long now = nanoClock.getAsLong();
+    TokenBucket bucket = buckets.computeIfAbsent(routeName + ":" + key,
+        k -> new TokenBucket(route.getCapacity(), route.getPeriod().toNanos(), now));
+
+    long waitNanos = bucket.tryConsume(now);
+    if (waitNanos > 0) {
+      rejectedCounter(routeName).increment();
+    }
+    return waitNanos;
+  }
+
+  public void refund(String routeName, String key) {
+    TokenBucket bucket = buckets.get(routeName + ":" + key);
+    if (bucket != null) {
+      bucket.refund();
+    }
+  }
+
+  @Scheduled(fixedDelay = 60_000)
+  public void evictIdleBuckets() {
+    long now = nanoClock.getAsLong();
+    long idleNanos = properties.getIdleTimeout().toNanos();
+    int before = buckets.size();
+
+    buckets.values().removeIf(bucket -> bucket.isIdleSince(now, idleNanos));
+
+    log.debug("rate limit bucket 정리: {} -> {}", before, buckets.size());
+  }
+
+  private Counter rejectedCounter(String routeName) {
+    return rejectedCounters.computeIfAbsent(routeName,
+        name -> Counter.builder("rate.limit.rejected")
+            .tag("route", name)
+            .description("요청 한도 초과로 거절된 요청 수")
+            .register(meterRegistry));
+  }
+}
@@ -0,0 +1,47 @@
+package com.example.ddd_start.common.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA 방식의 token bucket. 상태는 다음 토큰의 이론적 도착 시각(TAT) 하나뿐이라 CAS 한 번으로 갱신한다.
+ */
+class TokenBucket {
+
+  private final long emissionIntervalNanos;
+  private final long burstNanos;
+  private final AtomicLong theoreticalArrivalTime;
+
+  TokenBucket(int capacity, long periodNanos, long nowNanos) {
+    this.emissionIntervalNanos = Math.max(1, periodNanos / capacity);
+    this.burstNanos = emissionIntervalNanos * capacity;
+    this.theoreticalArrivalTime = new AtomicLong(nowNanos);
+  }
+
+  /**
+   * 토큰을 하나 소비한다. 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 nanos 를 돌려준다.
+   */
+  long tryConsume(long nowNanos) {
+    while (true) {
+      long tat = theoreticalArrivalTime.get();
+      long newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+      long allowAt = newTat - burstNanos;
+
+      if (allowAt > nowNanos) {
+        return allowAt - nowNanos;
+      }
+      if (theoreticalArrivalTime.compareAndSet(tat, newTat)) {
+        return 0;
+      }
+    }
+  }
+
+  //소비한 토큰 하나를 되돌린다. 다른 bucket 에서 거절된 요청이 이 bucket 의 한도를 쓰지 않도록 한다.
+  void refund() {
+    theoreticalArrivalTime.addAndGet(-emissionIntervalNanos);
+  }
+
+  //TAT 가 지났다면 bucket 이 가득 찬 상태이므로 새 bucket 과 구분되지 않는다.
+  boolean isIdleSince(long nowNanos, long idleNanos) {
+    return theoreticalArrivalTime.get() + idleNanos < nowNanos;
+  }
+}
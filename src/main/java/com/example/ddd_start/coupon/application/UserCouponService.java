@@ -48,6 +48,20 @@ public class UserCouponService {
     return userCoupon.getId();
   }
 
+  //여러 회원에게 같은 쿠폰을 한 번에 발급한다. 회원은 조회하지 않고 참조만 사용하며 insert 는 JDBC batch 로 나간다.
+  @Transactional
+  public int grant(List<Long> memberIds, Long couponDefinitionId) {
+    CouponDefinition couponDefinition = couponDefinitionRepository.findById(couponDefinitionId)
+        .orElseThrow(() -> new RuntimeException("존재하지 않는 쿠폰입니다."));
+
+    List<UserCoupon> userCoupons = memberIds.stream()
+        .distinct()
+        .map(memberId -> new UserCoupon(memberRepository.getReferenceById(memberId), couponDefinition))
+        .toList();
+    userCouponRepository.saveAll(userCoupons);
+    return userCoupons.size();
+  }
+
   @Transactional
   public void update(UserCouponDto userCouponDto) {
     UserCoupon userCoupon = userCouponRepository.findById(userCouponDto.id())
@@ -1,6 +1,7 @@
 package com.example.ddd_start.coupon.domain;
 
 import com.example.ddd_start.common.domain.Money;
+import com.example.ddd_start.common.infrastructure.id.PooledId;
 import com.example.ddd_start.coupon.Exception.CouponAlreadyUsedException;
 import com.example.ddd_start.member.domain.Member;
 import java.time.Instant;
@@ -8,11 +9,13 @@ import java.time.ZoneId;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 
 @Entity
 @NoArgsConstructor
@@ -20,7 +23,14 @@ import lombok.NoArgsConstructor;
 public class UserCoupon {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(generator = PooledId.NAME)
+  @GenericGenerator(name = PooledId.NAME, strategy = PooledId.STRATEGY, parameters = {
+      @Parameter(name = TableGenerator.TABLE_PARAM, value = PooledId.TABLE),
+      @Parameter(name = TableGenerator.SEGMENT_COLUMN_PARAM, value = PooledId.SEGMENT_COLUMN),
+      @Parameter(name = TableGenerator.VALUE_COLUMN_PARAM, value = PooledId.VALUE_COLUMN),
+      @Parameter(name = TableGenerator.CONFIG_PREFER_SEGMENT_PER_ENTITY, value = "true"),
+      @Parameter(name = TableGenerator.OPT_PARAM, value = PooledId.OPTIMIZER),
+      @Parameter(name = TableGenerator.INCREMENT_PARAM, value = PooledId.INCREMENT_SIZE)})
   private Long id;
   private String name;
   private Boolean isUsed;
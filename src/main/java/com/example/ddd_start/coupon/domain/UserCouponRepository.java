@@ -1,5 +1,7 @@
 package com.example.ddd_start.coupon.domain;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -13,4 +15,16 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
 
   public List<UserCoupon> findAllByMemberIdAndIsUsedFalse(Long memberId);
 
+  @Query("select uc.member.id from UserCoupon uc where uc.member.id in :memberIds and uc.name = :name")
+  List<Long> findMemberIdsHavingCoupon(Collection<Long> memberIds, String name);
+
+  @Query("select uc from UserCoupon uc join fetch uc.member where uc.id in :ids")
+  List<UserCoupon> findAllWithMemberByIdIn(Collection<Long> ids);
+
+  //아직 사용하지 않은 쿠폰만 사용 처리하고 처리한 개수를 돌려준다.
+  @Modifying
+  @Query("update UserCoupon uc set uc.isUsed = true, uc.usedAt = :usedAt, uc.updatedAt = :usedAt "
+      + "where uc.id in :ids and uc.isUsed = false")
+  int markUsed(Collection<Long> ids, Instant usedAt);
+
 }
@@ -2,6 +2,8 @@ package com.example.ddd_start.coupon.presentation;
 
 import com.example.ddd_start.coupon.application.UserCouponService;
 import com.example.ddd_start.coupon.application.model.UserCouponDto;
+import com.example.ddd_start.coupon.presentation.model.GrantUserCouponsRequest;
+import com.example.ddd_start.coupon.presentation.model.GrantUserCouponsResponse;
 import com.example.ddd_start.coupon.presentation.model.RegisterUserCouponRequest;
 import com.example.ddd_start.coupon.presentation.model.RegisterUserCouponResponse;
 import com.example.ddd_start.coupon.presentation.model.UpdateUserCouponRequest;
@@ -41,6 +43,14 @@ public class UserCouponController {
         .ok(new RegisterUserCouponResponse(userCouponId, "쿠폰이 정상적으로 등록되었습니다."));
   }
 
+  @PostMapping("/user-coupons/bulk")
+  public ResponseEntity grant(@RequestBody GrantUserCouponsRequest req) {
+    int grantedCount = userCouponService.grant(req.memberIds(), req.couponDefinitionId());
+
+    return ResponseEntity
+        .ok(new GrantUserCouponsResponse(grantedCount, "쿠폰이 정상적으로 발급되었습니다."));
+  }
+
   @PutMapping("/user-coupons")
   public ResponseEntity update(@RequestBody UpdateUserCouponRequest req) {
     userCouponService.update(
@@ -0,0 +1,7 @@
+package com.example.ddd_start.coupon.presentation.model;
+
+import java.util.List;
+
+public record GrantUserCouponsRequest(List<Long> memberIds, Long couponDefinitionId) {
+
+}
@@ -0,0 +1,5 @@
+package com.example.ddd_start.coupon.presentation.model;
+
+public record GrantUserCouponsResponse(int grantedCount, String message) {
+
+}
@@ -0,0 +1,191 @@
+package com.example.ddd_start.inventory.application;
+
+import com.example.ddd_start.common.domain.exception.OutOfStockException;
+import com.example.ddd_start.inventory.domain.Stock;
+import com.example.ddd_start.inventory.domain.StockRepository;
+import com.example.ddd_start.inventory.infrastructure.StockJdbcRepository;
+import com.example.ddd_start.inventory.infrastructure.StripedCounter;
+import com.example.ddd_start.product.domain.ProductRepository;
+import com.example.ddd_start.product.domain.event.ProductRegisteredEvent;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 재고를 메모리의 striped 카운터로 예약/해제하고, 바뀐 재고만 주기적으로 DB 에 batch 로 반영한다.
+ * 예약 경로에서는 DB row lock 을 잡지 않으므로 한 상품에 주문이 몰려도 경합이 생기지 않는다.
+ *
+ * - 재고 row 가 없는 상품은 예약할 수 없다. 상품이 등록되면 수량 0 인 재고 row 를 함께 만든다.
+ * - DB 에는 절대값이 아니라 마지막 반영 이후의 증감분만 더하므로, 다른 인스턴스의 반영을 덮어쓰지 않는다.
+ * - 시작 시 DB 값에서 마지막 반영 이후 접수된 주문 수량을 빼서 보정한다.
+ * - 메모리 카운터는 인스턴스마다 따로 있으므로 여러 인스턴스가 같은 상품을 예약하면 과판매될 수 있다.
+ *   그런 경우에는 상품별로 인스턴스를 나눠 라우팅해야 한다.
+ */
+@Slf4j
+@Service
+public class StockService {
+
+  private final StockRepository stockRepository;
+  private final StockJdbcRepository stockJdbcRepository;
+  private final ProductRepository productRepository;
+  private final int stripes;
+  private final Map<Long, StripedCounter> counters = new ConcurrentHashMap<>();
+  //마지막 반영 이후의 상품별 증감분. 반영하면 0 으로 돌린다.
+  private final Map<Long, AtomicInteger> deltas = new ConcurrentHashMap<>();
+
+  public StockService(StockRepository stockRepository,
+      StockJdbcRepository stockJdbcRepository,
+      ProductRepository productRepository,
+      @Value("${inventory.stripes:8}") int stripes) {
+    this.stockRepository = stockRepository;
+    this.stockJdbcRepository = stockJdbcRepository;
+    this.productRepository = productRepository;
+    this.stripes = stripes;
+  }
+
+  @PostConstruct
+  public void reconcile() {
+    Map<Long, Integer> unflushed = stockJdbcRepository.findUnflushedReservations();
+    for (Stock stock : stockRepository.findAll()) {
+      int reserved = unflushed.getOrDefault(stock.getProductId(), 0);
+      int quantity = Math.max(0, stock.getQuantity() - reserved);
+      counters.put(stock.getProductId(), new StripedCounter(stripes, quantity));
+      if (reserved > 0) {
+        track(stock.getProductId(), -reserved);
+      }
+    }
+    log.info("재고 {}건을 불러왔습니다. 보정한 상품 {}건", counters.size(), deltas.size());
+    flush();
+  }
+
+  /**
+   * 상품별 수량을 전부 예약하거나 하나도 예약하지 않는다. 재고 row 가 없는 상품은 품절로 본다.
+   * 트랜잭션 안에서 호출하면 롤백 시 예약이 자동으로 해제된다.
+   */
+  public void reserve(Map<Long, Integer> quantities) throws OutOfStockException {
+    Map<Long, Integer> reserved = new LinkedHashMap<>();
+    for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+      StripedCounter counter = counters.get(entry.getKey());
+      if (counter == null || !counter.tryDecrement(entry.getValue())) {
+        release(reserved);
+        throw new OutOfStockException(entry.getKey());
+      }
+      reserved.put(entry.getKey(), entry.getValue());
+      track(entry.getKey(), -entry.getValue());
+    }
+
+    if (!reserved.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status != STATUS_COMMITTED) {
+            release(reserved);
+          }
+        }
+      });
+    }
+  }
+
+  public void release(Map<Long, Integer> quantities) {
+    quantities.forEach((productId, quantity) -> {
+      StripedCounter counter = counters.get(productId);
+      if (counter != null) {
+        counter.add(quantity);
+        track(productId, quantity);
+      }
+    });
+  }
+
+  //트랜잭션이 커밋된 뒤에만 해제한다. 주문 취소처럼 롤백되면 재고를 돌려주면 안 되는 경우에 사용한다.
+  public void releaseAfterCommit(Map<Long, Integer> quantities) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      release(quantities);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        release(quantities);
+      }
+    });
+  }
+
+  //재고 row 가 없는 상품은 처음 입고할 때 만든다. 없는 상품에 재고 row 가 생기지 않도록 먼저 확인한다.
+  public void restock(Long productId, int quantity) {
+    if (!counters.containsKey(productId) && !productRepository.existsById(productId)) {
+      throw new IllegalArgumentException("Product not found: " + productId);
+    }
+    counters.computeIfAbsent(productId, id -> new StripedCounter(stripes, 0)).add(quantity);
+    track(productId, quantity);
+  }
+
+  //상품 등록 트랜잭션 안에서 재고 row 를 만들고, 커밋된 뒤에 카운터를 연다.
+  @EventListener
+  public void onProductRegistered(ProductRegisteredEvent event) {
+    List<Long> productIds = event.getProductIds();
+    stockJdbcRepository.createAll(productIds, Instant.now());
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      openCounters(productIds);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        openCounters(productIds);
+      }
+    });
+  }
+
+  public OptionalInt getQuantity(Long productId) {
+    StripedCounter counter = counters.get(productId);
+    return counter == null ? OptionalInt.empty() : OptionalInt.of(counter.sum());
+  }
+
+  @Scheduled(fixedDelayString = "${inventory.flush-interval-millis:500}")
+  @PreDestroy
+  public void flush() {
+    //스냅샷 시각을 먼저 잡아야 보정 쿼리가 반영 직전 주문을 놓치지 않는다.
+    Instant snapshotAt = Instant.now();
+    Map<Long, Integer> pending = new HashMap<>();
+    for (Long productId : new ArrayList<>(deltas.keySet())) {
+      int delta = deltas.get(productId).getAndSet(0);
+      if (delta != 0) {
+        pending.put(productId, delta);
+      }
+    }
+    if (pending.isEmpty()) {
+      return;
+    }
+
+    try {
+      stockJdbcRepository.applyDeltas(pending, snapshotAt);
+    } catch (RuntimeException e) {
+      pending.forEach(this::track);
+      log.warn("재고 반영 실패: {}건", pending.size(), e);
+    }
+  }
+
+  private void track(Long productId, int delta) {
+    deltas.computeIfAbsent(productId, id -> new AtomicInteger()).addAndGet(delta);
+  }
+
+  private void openCounters(List<Long> productIds) {
+    productIds.forEach(
+        productId -> counters.putIfAbsent(productId, new StripedCounter(stripes, 0)));
+  }
+}
@@ -0,0 +1,24 @@
+package com.example.ddd_start.inventory.domain;
+
+import java.time.Instant;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품별 재고. 실행 중에는 StockService 의 메모리 카운터가 원본이고, 이 테이블은 write-behind 로 따라온다.
+ * updatedAt 은 마지막으로 반영한 카운터 스냅샷 시각이며 시작 시 보정 기준으로 사용한다.
+ */
+@Entity
+@Table(name = "stock")
+@Getter
+@NoArgsConstructor
+public class Stock {
+
+  @Id
+  private Long productId;
+  private Integer quantity;
+  private Instant updatedAt;
+}
@@ -0,0 +1,7 @@
+package com.example.ddd_start.inventory.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StockRepository extends JpaRepository<Stock, Long> {
+
+}
@@ -0,0 +1,67 @@
+package com.example.ddd_start.inventory.infrastructure;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 재고 write-behind 와 시작 시 보정에 쓰는 JDBC 쿼리.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockJdbcRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 카운터 증감분을 한 번의 batch 로 더한다. 처음 보는 상품은 증감분을 수량으로 insert 한다.
+   * 절대값으로 덮어쓰지 않으므로 같은 DB 를 쓰는 다른 인스턴스의 반영이 사라지지 않는다.
+   */
+  public void applyDeltas(Map<Long, Integer> deltas, Instant snapshotAt) {
+    Timestamp updatedAt = Timestamp.from(snapshotAt);
+    List<Map.Entry<Long, Integer>> entries = List.copyOf(deltas.entrySet());
+    jdbcTemplate.batchUpdate(
+        "insert into stock (product_id, quantity, updated_at) values (?, ?, ?) "
+            + "on duplicate key update quantity = quantity + values(quantity), "
+            + "updated_at = values(updated_at)",
+        entries, entries.size(), (ps, entry) -> {
+          ps.setLong(1, entry.getKey());
+          ps.setInt(2, entry.getValue());
+          ps.setTimestamp(3, updatedAt);
+        });
+  }
+
+  //신규 상품의 재고 row 를 수량 0 으로 만든다. 이미 있으면 건드리지 않는다.
+  public void createAll(List<Long> productIds, Instant now) {
+    Timestamp updatedAt = Timestamp.from(now);
+    jdbcTemplate.batchUpdate(
+        "insert ignore into stock (product_id, quantity, updated_at) values (?, 0, ?)",
+        productIds, productIds.size(), (ps, productId) -> {
+          ps.setLong(1, productId);
+          ps.setTimestamp(2, updatedAt);
+        });
+  }
+
+  /**
+   * 마지막 반영 이후 접수되어 아직 재고에 반영되지 않았을 수 있는 주문 수량을 상품별로 합산한다.
+   * 반영 직전에 접수된 주문이 두 번 빠질 수는 있지만, 빠뜨리지는 않으므로 과판매 쪽으로는 틀리지 않는다.
+   */
+  public Map<Long, Integer> findUnflushedReservations() {
+    Map<Long, Integer> reservations = new HashMap<>();
+    jdbcTemplate.query(
+        "select s.product_id, sum(ol.quantity) as reserved from stock s "
+            + "join order_line ol on ol.product_id = s.product_id "
+            + "join orders o on o.id = ol.order_id "
+            + "where o.created_at > s.updated_at and o.order_state <> 'CANCEL' "
+            + "group by s.product_id",
+        rs -> {
+          reservations.put(rs.getLong("product_id"), rs.getInt("reserved"));
+        });
+    return reservations;
+  }
+}
@@ -0,0 +1,80 @@
+package com.example.ddd_start.inventory.infrastructure;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 하나의 재고 수량을 여러 stripe 로 나눠 담은 카운터.
+ * 스레드마다 다른 stripe 부터 CAS 로 차감하므로 한 상품에 요청이 몰려도 한 값에 경합이 집중되지 않는다.
+ * 차감은 전부 성공하거나 전부 되돌린다. 남은 수량이 0 근처일 때는 동시 차감 때문에 실제보다 보수적으로 실패할 수 있다.
+ */
+public class StripedCounter {
+
+  //stripe 하나가 캐시 라인 하나를 쓰도록 int 16개(64 byte) 간격으로 둔다.
+  private static final int PADDING = 16;
+
+  private final int stripes;
+  private final AtomicIntegerArray values;
+
+  public StripedCounter(int stripes, int initial) {
+    this.stripes = stripes;
+    this.values = new AtomicIntegerArray(stripes * PADDING);
+    set(initial);
+  }
+
+  public boolean tryDecrement(int quantity) {
+    int[] taken = new int[stripes];
+    int remaining = quantity;
+    int start = homeStripe();
+
+    for (int i = 0; i < stripes && remaining > 0; i++) {
+      int stripe = (start + i) % stripes;
+      int index = stripe * PADDING;
+      while (remaining > 0) {
+        int available = values.get(index);
+        if (available <= 0) {
+          break;
+        }
+        int take = Math.min(available, remaining);
+        if (values.compareAndSet(index, available, available - take)) {
+          taken[stripe] += take;
+          remaining -= take;
+        }
+      }
+    }
+
+    if (remaining > 0) {
+      for (int stripe = 0; stripe < stripes; stripe++) {
+        if (taken[stripe] > 0) {
+          values.addAndGet(stripe * PADDING, taken[stripe]);
+        }
+      }
+      return false;
+    }
+    return true;
+  }
+
+  public void add(int quantity) {
+    values.addAndGet(homeStripe() * PADDING, quantity);
+  }
+
+  public int sum() {
+    int sum = 0;
+    for (int stripe = 0; stripe < stripes; stripe++) {
+      sum += values.get(stripe * PADDING);
+    }
+    return sum;
+  }
+
+  //stripe 에 고르게 나눠 넣는다. 동시 차감 중에 호출하면 안 되며 시작 시 보정에서만 사용한다.
+  public void set(int quantity) {
+    int base = quantity / stripes;
+    int extra = quantity % stripes;
+    for (int stripe = 0; stripe < stripes; stripe++) {
+      values.set(stripe * PADDING, base + (stripe < extra ? 1 : 0));
+    }
+  }
+
+  private int homeStripe() {
+    return (int) (Thread.currentThread().getId() % stripes);
+  }
+}
@@ -0,0 +1,44 @@
+package com.example.ddd_start.inventory.presentation;
+
+import com.example.ddd_start.inventory.application.StockService;
+import com.example.ddd_start.inventory.presentation.model.RestockRequest;
+import com.example.ddd_start.inventory.presentation.model.StockResponse;
+import java.util.OptionalInt;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class InventoryController {
+
+  private final StockService stockService;
+
+  @GetMapping("/inventory/{productId}")
+  public ResponseEntity findStock(@PathVariable("productId") Long productId) {
+    OptionalInt quantity = stockService.getQuantity(productId);
+    if (quantity.isEmpty()) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.ok(new StockResponse(productId, quantity.getAsInt()));
+  }
+
+  @PostMapping("/inventory/{productId}/restock")
+  public ResponseEntity restock(@PathVariable("productId") Long productId,
+      @RequestBody RestockRequest req) {
+    if (req.quantity() == null || req.quantity() <= 0) {
+      return ResponseEntity.badRequest().body("입고 수량은 1 이상이어야 합니다.");
+    }
+    try {
+      stockService.restock(productId, req.quantity());
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.ok(
+        new StockResponse(productId, stockService.getQuantity(productId).orElse(0)));
+  }
+}
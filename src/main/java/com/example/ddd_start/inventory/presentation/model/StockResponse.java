@@ -0,0 +1,5 @@
+package com.example.ddd_start.inventory.presentation.model;
+
+public record StockResponse(Long productId, Integer quantity) {
+
+}
@@ -1,31 +1,75 @@
 package com.example.ddd_start.member.applicaiton;
 
+import com.example.ddd_start.auth.PasswordHashingExecutor;
+import com.example.ddd_start.auth.RefreshTokenService;
+import com.example.ddd_start.common.config.AsyncConfig;
 import com.example.ddd_start.common.domain.exception.NoMemberFoundException;
 import com.example.ddd_start.common.domain.exception.PasswordNotMatchException;
 import com.example.ddd_start.member.applicaiton.model.ChangePasswordCommand;
 import com.example.ddd_start.member.domain.Member;
 import com.example.ddd_start.member.domain.MemberRepository;
-import lombok.RequiredArgsConstructor;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 비밀번호 변경. 현재 비밀번호 비교와 새 해시는 해시 전용 풀에서 하고,
+ * 변경 저장은 member executor 에서 짧은 트랜잭션으로 한다.
+ */
 @Service
-@RequiredArgsConstructor
 public class ChangePasswordService {
 
   private final MemberRepository memberRepository;
   private final PasswordEncoder passwordEncoder;
+  private final PasswordHashingExecutor passwordHashingExecutor;
+  private final MemberProfileCache memberProfileCache;
+  private final RefreshTokenService refreshTokenService;
+  private final TransactionTemplate transactionTemplate;
+  private final Executor memberExecutor;
 
-  @Transactional
-  public void changePassword(ChangePasswordCommand req) throws NoMemberFoundException {
+  public ChangePasswordService(MemberRepository memberRepository,
+      PasswordEncoder passwordEncoder,
+      PasswordHashingExecutor passwordHashingExecutor,
+      MemberProfileCache memberProfileCache,
+      RefreshTokenService refreshTokenService,
+      PlatformTransactionManager transactionManager,
+      @Qualifier(AsyncConfig.MEMBER_EXECUTOR) Executor memberExecutor) {
+    this.memberRepository = memberRepository;
+    this.passwordEncoder = passwordEncoder;
+    this.passwordHashingExecutor = passwordHashingExecutor;
+    this.memberProfileCache = memberProfileCache;
+    this.refreshTokenService = refreshTokenService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.memberExecutor = memberExecutor;
+  }
+
+  public CompletableFuture<Void> changePassword(ChangePasswordCommand req)
+      throws NoMemberFoundException {
     Member member = memberRepository.findById(req.getMemberId())
         .orElseThrow(NoMemberFoundException::new);
+    String currentPassword = member.getPassword();
 
-    if (!passwordEncoder.matches(req.getCurPw(), member.getPassword())) {
-      throw new PasswordNotMatchException();
-    }
-
-    member.changePassword(passwordEncoder.encode(req.getNewPw()));
+    return passwordHashingExecutor.submit(() -> {
+          if (!passwordEncoder.matches(req.getCurPw(), currentPassword)) {
+            throw new PasswordNotMatchException();
+          }
+          return passwordEncoder.encode(req.getNewPw());
+        })
+        .thenAcceptAsync(newPassword -> transactionTemplate.executeWithoutResult(status -> {
+          Member target = memberRepository.findById(req.getMemberId())
+              .orElseThrow(PasswordNotMatchException::new);
+          //비교하는 사이 다른 요청이 비밀번호를 바꿨다면 이번 변경은 이전 비밀번호 기준이므로 거절한다.
+          if (!Objects.equals(target.getPassword(), currentPassword)) {
+            throw new PasswordNotMatchException();
+          }
+          target.changePassword(newPassword);
+          memberProfileCache.evict(target);
+          refreshTokenService.revokeAll(target.getUsername());
+        }), memberExecutor);
   }
 }
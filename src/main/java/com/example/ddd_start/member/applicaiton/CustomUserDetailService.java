@@ -1,35 +1,55 @@
 package com.example.ddd_start.member.applicaiton;
 
+import com.example.ddd_start.auth.model.MemberPrincipal;
+import com.example.ddd_start.member.applicaiton.model.MemberProfile;
 import com.example.ddd_start.member.domain.Member;
 import com.example.ddd_start.member.domain.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class CustomUserDetailService implements UserDetailsService {
+public class CustomUserDetailService implements UserDetailsService, UserDetailsPasswordService {
     private final MemberRepository memberRepository;
+    private final MemberProfileCache memberProfileCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return memberRepository.findMemberByUsername(username)
+        return memberProfileCache.findByUsername(username)
                 .map(this::createUserDetails)
                 .orElseThrow(() -> new UsernameNotFoundException("해당하는 회원을 찾을 수 없습니다."));
     }
 
-    private UserDetails createUserDetails(Member member) {
+    //로그인 성공 시 저장된 해시의 cost 가 현재 설정보다 낮으면 새 해시로 교체한다.
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.findMemberByUsername(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("해당하는 회원을 찾을 수 없습니다."));
+        member.changePassword(newPassword);
+        memberProfileCache.evict(member);
+        log.info("비밀번호 해시 재암호화: username={}", member.getUsername());
+
+        return createUserDetails(MemberProfile.from(member));
+    }
+
+    private UserDetails createUserDetails(MemberProfile member) {
 
-        return User.builder()
-                .username(member.getUsername())
-                .password(member.getPassword())
-                .roles(member.getRoles().toArray(new String[0]))
-                .build();
+        return new MemberPrincipal(
+                member.id(),
+                member.username(),
+                member.password(),
+                member.memberGrade(),
+                member.roles().stream()
+                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                        .toList());
     }
 }
@@ -1,5 +1,6 @@
 package com.example.ddd_start.member.applicaiton;
 
+import com.example.ddd_start.auth.RefreshTokenService;
 import com.example.ddd_start.coupon.domain.UserCouponRepository;
 import com.example.ddd_start.member.domain.MemberRepository;
 import com.example.ddd_start.order.domain.CartRepository;
@@ -20,6 +21,8 @@ public class DeleteMemberService {
   private final UserCouponRepository userCouponRepository;
   private final CartRepository cartRepository;
   private final OrderRepository orderRepository;
+  private final MemberProfileCache memberProfileCache;
+  private final RefreshTokenService refreshTokenService;
 
   @Transactional
   public void delete(Long id) {
@@ -30,6 +33,8 @@ public class DeleteMemberService {
       orderRepository.deleteByMemberId(member.getId());
 
       memberRepository.delete(member);
+      memberProfileCache.evict(member);
+      refreshTokenService.revokeAll(member.getUsername());
     });
   }
 }
@@ -1,5 +1,8 @@
 package com.example.ddd_start.member.applicaiton;
 
+import com.example.ddd_start.auth.PasswordHashingExecutor;
+import com.example.ddd_start.common.application.event.OutboxEventPublisher;
+import com.example.ddd_start.common.config.AsyncConfig;
 import com.example.ddd_start.common.domain.Address;
 import com.example.ddd_start.common.domain.exception.DuplicateEmailException;
 import com.example.ddd_start.common.domain.exception.DuplicateUsernameException;
@@ -9,22 +12,43 @@ import com.example.ddd_start.member.applicaiton.model.joinCommand;
 import com.example.ddd_start.member.applicaiton.model.joinResponse;
 import com.example.ddd_start.member.domain.Member;
 import com.example.ddd_start.member.domain.MemberRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 회원 가입. 중복 검사 후 비밀번호 해시는 해시 전용 풀에서 만들고,
+ * 저장은 member executor 에서 짧은 트랜잭션으로 한다. 해시를 기다리는 동안 요청 스레드와 DB 커넥션을 잡지 않는다.
+ */
 @Service
-@RequiredArgsConstructor
 public class JoinMemberService {
 
   private final MemberRepository memberRepository;
   private final PasswordEncoder passwordEncoder;
-  private final ApplicationEventPublisher eventPublisher;
+  private final PasswordHashingExecutor passwordHashingExecutor;
+  private final OutboxEventPublisher outboxEventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final Executor memberExecutor;
 
-  @Transactional
-  public joinResponse joinMember(joinCommand req)
+  public JoinMemberService(MemberRepository memberRepository,
+      PasswordEncoder passwordEncoder,
+      PasswordHashingExecutor passwordHashingExecutor,
+      OutboxEventPublisher outboxEventPublisher,
+      PlatformTransactionManager transactionManager,
+      @Qualifier(AsyncConfig.MEMBER_EXECUTOR) Executor memberExecutor) {
+    this.memberRepository = memberRepository;
+    this.passwordEncoder = passwordEncoder;
+    this.passwordHashingExecutor = passwordHashingExecutor;
+    this.outboxEventPublisher = outboxEventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.memberExecutor = memberExecutor;
+  }
+
+  public CompletableFuture<joinResponse> joinMember(joinCommand req)
       throws DuplicateEmailException, DuplicateUsernameException {
     //값의 형식 검사
     checkEmpty(req.getEmail(), "email");
@@ -43,16 +67,19 @@ public class JoinMemberService {
         addressReq.getZipCode()
     );
 
-    String encryptedPassword = passwordEncoder.encode(req.getPassword());
-    Member member = new Member(req.getUsername(), req.getEmail(), encryptedPassword, req.getName(),
-        address,
-        req.getRole());
+    return passwordHashingExecutor.submit(() -> passwordEncoder.encode(req.getPassword()))
+        .thenApplyAsync(encryptedPassword -> transactionTemplate.execute(status -> {
+          Member member = new Member(req.getUsername(), req.getEmail(), encryptedPassword,
+              req.getName(),
+              address,
+              req.getRole());
 
-    Member save = memberRepository.save(member);
+          Member save = memberRepository.save(member);
 
-    eventPublisher.publishEvent(new JoinMemberEvent(save));
+          outboxEventPublisher.publish(new JoinMemberEvent(save.getId()));
 
-    return new joinResponse(member.getId(), member.getUsername());
+          return new joinResponse(member.getId(), member.getUsername());
+        }), memberExecutor);
   }
 
   private void checkDuplicatedEmail(String email) throws DuplicateEmailException {
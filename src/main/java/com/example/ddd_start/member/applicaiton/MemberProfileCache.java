@@ -0,0 +1,99 @@
+package com.example.ddd_start.member.applicaiton;
+
+import com.example.ddd_start.member.applicaiton.model.MemberProfile;
+import com.example.ddd_start.member.domain.Member;
+import com.example.ddd_start.member.domain.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * username, id 로 조회하는 회원 프로필 캐시. roles 까지 한 번에 읽어 스냅샷으로 보관한다.
+ */
+@Component
+public class MemberProfileCache {
+
+  private final MemberRepository memberRepository;
+  private final Cache<String, MemberProfile> byUsername;
+  private final Cache<Long, MemberProfile> byId;
+
+  public MemberProfileCache(
+      MemberRepository memberRepository,
+      MeterRegistry meterRegistry,
+      @Value("${member.cache.max-size:10000}") long maxSize,
+      @Value("${member.cache.ttl:10m}") Duration ttl) {
+    this.memberRepository = memberRepository;
+    this.byUsername = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    this.byId = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, byUsername, "member.profile.username");
+    CaffeineCacheMetrics.monitor(meterRegistry, byId, "member.profile.id");
+  }
+
+  public Optional<MemberProfile> findByUsername(String username) {
+    MemberProfile cached = byUsername.getIfPresent(username);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    return memberRepository.findWithRolesByUsername(username).map(this::put);
+  }
+
+  public Optional<MemberProfile> findById(Long id) {
+    MemberProfile cached = byId.getIfPresent(id);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    return memberRepository.findWithRolesById(id).map(this::put);
+  }
+
+  public void evict(Member member) {
+    evict(member.getId(), member.getUsername());
+  }
+
+  //커밋 전 다른 요청이 이전 값을 다시 적재할 수 있으므로 커밋 이후에도 한 번 더 비운다.
+  public void evict(Long id, String username) {
+    invalidate(id, username);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          invalidate(id, username);
+        }
+      });
+    }
+  }
+
+  private MemberProfile put(Member member) {
+    MemberProfile profile = MemberProfile.from(member);
+    byUsername.put(profile.username(), profile);
+    byId.put(profile.id(), profile);
+    return profile;
+  }
+
+  private void invalidate(Long id, String username) {
+    MemberProfile cached = id == null ? null : byId.getIfPresent(id);
+    if (cached != null) {
+      byUsername.invalidate(cached.username());
+    }
+    if (id != null) {
+      byId.invalidate(id);
+    }
+    if (username != null) {
+      byUsername.invalidate(username);
+    }
+  }
+}
@@ -1,31 +1,62 @@
 package com.example.ddd_start.member.applicaiton;
 
-import com.example.ddd_start.auth.JwtTokenProvider;
+import com.example.ddd_start.auth.PasswordHashingExecutor;
+import com.example.ddd_start.auth.RefreshTokenService;
 import com.example.ddd_start.auth.model.JwtToken;
+import com.example.ddd_start.common.config.AsyncConfig;
+import com.example.ddd_start.common.domain.exception.PasswordHashingBusyException;
+import com.example.ddd_start.member.applicaiton.model.MemberProfile;
 import com.example.ddd_start.member.applicaiton.model.SignInCommand;
 import com.example.ddd_start.member.domain.Member;
 import com.example.ddd_start.member.domain.MemberRepository;
 import com.example.ddd_start.member.presentation.model.MemberDto;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MemberService {
 
   private final MemberRepository memberRepository;
-  private final AuthenticationManagerBuilder authenticationManagerBuilder;
-  private final JwtTokenProvider jwtTokenProvider;
+  private final CustomUserDetailService userDetailService;
+  private final PasswordEncoder passwordEncoder;
+  private final RefreshTokenService refreshTokenService;
+  private final PasswordHashingExecutor passwordHashingExecutor;
+  private final MemberProfileCache memberProfileCache;
+  private final Executor memberExecutor;
+  private final UserDetailsChecker userDetailsChecker = new AccountStatusUserDetailsChecker();
+
+  public MemberService(MemberRepository memberRepository,
+      CustomUserDetailService userDetailService,
+      PasswordEncoder passwordEncoder,
+      RefreshTokenService refreshTokenService,
+      PasswordHashingExecutor passwordHashingExecutor,
+      MemberProfileCache memberProfileCache,
+      @Qualifier(AsyncConfig.MEMBER_EXECUTOR) Executor memberExecutor) {
+    this.memberRepository = memberRepository;
+    this.userDetailService = userDetailService;
+    this.passwordEncoder = passwordEncoder;
+    this.refreshTokenService = refreshTokenService;
+    this.passwordHashingExecutor = passwordHashingExecutor;
+    this.memberProfileCache = memberProfileCache;
+    this.memberExecutor = memberExecutor;
+  }
 
   @Transactional(readOnly = true)
   public void findMemberByName(String name) {
@@ -56,25 +87,62 @@ public class MemberService {
     List<Member> members = memberRepository.findByIdIn(blockingIds);
     for (Member member : members) {
       member.block();
+      memberProfileCache.evict(member);
+      refreshTokenService.revokeAll(member.getUsername());
     }
   }
 
-  @Transactional(readOnly = true)
-  public JwtToken signIn(SignInCommand cmd) {
-    UsernamePasswordAuthenticationToken authenticationToken =
-        new UsernamePasswordAuthenticationToken(cmd.username(), cmd.password());
+  /**
+   * BCrypt 비교만 해시 전용 풀에서 하고, 토큰 발급처럼 DB 를 쓰는 작업은 member executor 에서 이어서 한다.
+   * 요청 스레드는 회원 조회 후 바로 반환된다.
+   */
+  public CompletableFuture<JwtToken> signIn(SignInCommand cmd) {
+    UserDetails user;
+    try {
+      user = userDetailService.loadUserByUsername(cmd.username());
+    } catch (UsernameNotFoundException e) {
+      throw new BadCredentialsException("아이디 또는 비밀번호가 일치하지 않습니다.");
+    }
 
-    Authentication authentication =
-        authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+    return passwordHashingExecutor.submit(
+            () -> passwordEncoder.matches(cmd.password(), user.getPassword()))
+        .thenCompose(matched -> {
+          if (!matched) {
+            throw new BadCredentialsException("아이디 또는 비밀번호가 일치하지 않습니다.");
+          }
+          userDetailsChecker.check(user);
+          return upgradeEncoding(user, cmd.password());
+        })
+        .thenApplyAsync(authenticated -> {
+          Authentication authentication = new UsernamePasswordAuthenticationToken(
+              authenticated, null, authenticated.getAuthorities());
+          return refreshTokenService.issue(authentication);
+        }, memberExecutor);
+  }
+
+  //저장된 해시의 cost 가 현재 설정보다 낮으면 새 해시로 교체한다. 풀이 바쁘면 다음 로그인으로 미룬다.
+  private CompletableFuture<UserDetails> upgradeEncoding(UserDetails user, String rawPassword) {
+    if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+      return CompletableFuture.completedFuture(user);
+    }
+    try {
+      return passwordHashingExecutor.submit(() -> passwordEncoder.encode(rawPassword))
+          .thenApplyAsync(encoded -> userDetailService.updatePassword(user, encoded),
+              memberExecutor);
+    } catch (PasswordHashingBusyException e) {
+      return CompletableFuture.completedFuture(user);
+    }
+  }
 
-    return jwtTokenProvider.generateToken(authentication);
+  public JwtToken refresh(String refreshToken) {
+    return refreshTokenService.refresh(refreshToken);
   }
 
   public MemberDto getMember(String name) {
-    Member member = memberRepository.findMemberByUsername(name)
+    MemberProfile member = memberProfileCache.findByUsername(name)
         .orElseThrow(IllegalArgumentException::new);
-    return new MemberDto(member.getId(), member.getUsername(), member.getName(), member.getEmail(),
-        member.getRoles().get(0),
-        member.getAddress());
+    return new MemberDto(member.id(), member.username(), member.name(), member.email(),
+        member.roles().get(0),
+        member.address());
   }
 }
@@ -14,10 +14,12 @@ import org.springframework.stereotype.Service;
 public class UpdateMemberService {
 
   private final MemberRepository memberRepository;
+  private final MemberProfileCache memberProfileCache;
 
   public void updateMember(UpdateCommand cmd) throws NotFoundException {
     Member member = memberRepository.findById(cmd.id()).orElseThrow(NotFoundException::new);
     AddressCommand addressCommand = cmd.addressReq();
+    String previousUsername = member.getUsername();
 
     member.changeEmail(cmd.email());
     member.changeUsername(cmd.username());
@@ -30,5 +32,7 @@ public class UpdateMemberService {
     );
 
     memberRepository.save(member);
+    memberProfileCache.evict(member.getId(), previousUsername);
+    memberProfileCache.evict(member);
   }
 }
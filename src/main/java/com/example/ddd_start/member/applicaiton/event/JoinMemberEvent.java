@@ -1,8 +1,5 @@
 package com.example.ddd_start.member.applicaiton.event;
 
-import com.example.ddd_start.member.domain.Member;
-
-
-public record JoinMemberEvent(Member member) {
+public record JoinMemberEvent(Long memberId) {
 
 }
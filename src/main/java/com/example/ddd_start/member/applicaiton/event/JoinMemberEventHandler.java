@@ -1,35 +1,60 @@
 package com.example.ddd_start.member.applicaiton.event;
 
+import com.example.ddd_start.common.application.event.BatchEventListener;
+import com.example.ddd_start.common.config.AsyncConfig;
 import com.example.ddd_start.common.domain.Money;
 import com.example.ddd_start.coupon.domain.UserCoupon;
 import com.example.ddd_start.coupon.domain.UserCouponRepository;
-import com.example.ddd_start.member.domain.Member;
 import com.example.ddd_start.member.domain.MemberRepository;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
-public class JoinMemberEventHandler {
+public class JoinMemberEventHandler implements BatchEventListener<JoinMemberEvent> {
+
+  private static final String WELCOME_COUPON_NAME = "신규 회원 10%할인 쿠폰";
+
   private final MemberRepository memberRepository;
   private final UserCouponRepository userCouponRepository;
 
-  @Async
-  @EventListener(JoinMemberEvent.class)
+  @Override
+  public Class<JoinMemberEvent> eventType() {
+    return JoinMemberEvent.class;
+  }
+
+  @Override
+  public String executorName() {
+    return AsyncConfig.MEMBER_EXECUTOR;
+  }
+
+  //같은 이벤트가 다시 전달돼도 이미 쿠폰을 받은 회원에게는 다시 발급하지 않는다.
+  @Override
   @Transactional
-  public void joinMember(JoinMemberEvent event) {
-    Member member = event.member();
+  public void onEvents(List<JoinMemberEvent> events) {
+    Set<Long> memberIds = events.stream()
+        .map(JoinMemberEvent::memberId)
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+    memberIds.removeAll(
+        userCouponRepository.findMemberIdsHavingCoupon(memberIds, WELCOME_COUPON_NAME));
+    if (memberIds.isEmpty()) {
+      return;
+    }
 
-    UserCoupon userCoupon = new UserCoupon("신규 회원 10%할인 쿠폰",
-        false,
-        true,
-        0.1f,
-        member,
-        new Money(0));
+    List<UserCoupon> userCoupons = memberIds.stream()
+        .map(memberId -> new UserCoupon(WELCOME_COUPON_NAME,
+            false,
+            true,
+            0.1f,
+            memberRepository.getReferenceById(memberId),
+            new Money(0)))
+        .toList();
 
-    userCouponRepository.save(userCoupon);
+    userCouponRepository.saveAll(userCoupons);
   }
 }
@@ -0,0 +1,27 @@
+package com.example.ddd_start.member.applicaiton.model;
+
+import com.example.ddd_start.common.domain.Address;
+import com.example.ddd_start.member.domain.Member;
+import com.example.ddd_start.member.domain.MemberGrade;
+import java.util.List;
+
+/**
+ * 캐시에 보관하는 회원 정보 스냅샷. 영속성 컨텍스트와 분리된 불변 객체다.
+ */
+public record MemberProfile(Long id, String username, String password, String name,
+                            String email, List<String> roles, Address address,
+                            MemberGrade memberGrade, Boolean blocked) {
+
+  public static MemberProfile from(Member member) {
+    return new MemberProfile(
+        member.getId(),
+        member.getUsername(),
+        member.getPassword(),
+        member.getName(),
+        member.getEmail(),
+        List.copyOf(member.getRoles()),
+        member.getAddress(),
+        member.getMemberGrade(),
+        member.getBlocked());
+  }
+}
@@ -5,12 +5,19 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
   Optional<Member> findMemberByUsername(String username);
 
+  @EntityGraph(attributePaths = "roles")
+  Optional<Member> findWithRolesByUsername(String username);
+
+  @EntityGraph(attributePaths = "roles")
+  Optional<Member> findWithRolesById(Long id);
+
   List<Member> findMemberByUsernameLike(String name, Pageable pageable);
 
   Page<Member> findPageMemberByUsernameLike(String name, Pageable pageable);
@@ -3,7 +3,9 @@ package com.example.ddd_start.member.presentation;
 import com.example.ddd_start.auth.model.JwtToken;
 import com.example.ddd_start.common.domain.exception.DuplicateEmailException;
 import com.example.ddd_start.common.domain.exception.DuplicateUsernameException;
+import com.example.ddd_start.common.domain.exception.InvalidRefreshTokenException;
 import com.example.ddd_start.common.domain.exception.NoMemberFoundException;
+import com.example.ddd_start.common.domain.exception.PasswordHashingBusyException;
 import com.example.ddd_start.common.domain.exception.PasswordNotMatchException;
 import com.example.ddd_start.member.applicaiton.ChangePasswordService;
 import com.example.ddd_start.member.applicaiton.DeleteMemberService;
@@ -15,8 +17,10 @@ import com.example.ddd_start.member.presentation.model.ChangePasswordRequest;
 import com.example.ddd_start.member.presentation.model.JoinMemberRequest;
 import com.example.ddd_start.member.presentation.model.MemberDto;
 import com.example.ddd_start.member.presentation.model.MemberResponse;
+import com.example.ddd_start.member.presentation.model.RefreshTokenRequest;
 import com.example.ddd_start.member.presentation.model.SignInRequest;
 import com.example.ddd_start.member.presentation.model.UpdateMemberRequest;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -26,6 +30,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -45,7 +50,8 @@ public class MemberController {
   private final UpdateMemberService updateMemberService;
 
   @PostMapping("/members/join")
-  public ResponseEntity join(@RequestBody JoinMemberRequest req, Errors errors) {
+  public CompletableFuture<ResponseEntity> join(@RequestBody JoinMemberRequest req,
+      Errors errors) {
     String email = req.getEmail();
     String password = req.getPassword();
     String username = req.getUsername();
@@ -53,24 +59,26 @@ public class MemberController {
     AddressCommand addressReq = req.getAddressReq();
 
     try {
-      joinResponse joinResponse = joinMemberService.joinMember(
-          new joinCommand(email, password, username, name, addressReq, "USER"));
-
-      return new ResponseEntity<MemberResponse>(
-          new MemberResponse(
-              joinResponse.getMemberId(), joinResponse.getName(), "회원가입을 축하드립니다."),
-          HttpStatus.ACCEPTED);
+      return joinMemberService.joinMember(
+              new joinCommand(email, password, username, name, addressReq, "USER"))
+          .thenApply(joinResponse -> new ResponseEntity(
+              new MemberResponse(
+                  joinResponse.getMemberId(), joinResponse.getName(), "회원가입을 축하드립니다."),
+              HttpStatus.ACCEPTED));
     } catch (DuplicateEmailException e) {
       errors.rejectValue(e.getMessage(), "duplicate");
-      return new ResponseEntity("이메일이 중복됩니다.", HttpStatus.BAD_REQUEST);
+      return CompletableFuture.completedFuture(
+          new ResponseEntity("이메일이 중복됩니다.", HttpStatus.BAD_REQUEST));
     } catch (DuplicateUsernameException e) {
       errors.rejectValue(e.getMessage(), "duplicate");
-      return new ResponseEntity("아이디가 중복됩니다.", HttpStatus.BAD_REQUEST);
+      return CompletableFuture.completedFuture(
+          new ResponseEntity("아이디가 중복됩니다.", HttpStatus.BAD_REQUEST));
     }
   }
 
   @PostMapping("/members/join/admin")
-  public ResponseEntity joinAdmin(@RequestBody JoinMemberRequest req, Errors errors) {
+  public CompletableFuture<ResponseEntity> joinAdmin(@RequestBody JoinMemberRequest req,
+      Errors errors) {
     String email = req.getEmail();
     String password = req.getPassword();
     String username = req.getUsername();
@@ -78,19 +86,20 @@ public class MemberController {
     AddressCommand addressReq = req.getAddressReq();
 
     try {
-      joinResponse joinResponse = joinMemberService.joinMember(
-          new joinCommand(email, password, username, name, addressReq, "ADMIN"));
-
-      return new ResponseEntity<MemberResponse>(
-          new MemberResponse(
-              joinResponse.getMemberId(), joinResponse.getName(), "회원가입을 축하드립니다."),
-          HttpStatus.ACCEPTED);
+      return joinMemberService.joinMember(
+              new joinCommand(email, password, username, name, addressReq, "ADMIN"))
+          .thenApply(joinResponse -> new ResponseEntity(
+              new MemberResponse(
+                  joinResponse.getMemberId(), joinResponse.getName(), "회원가입을 축하드립니다."),
+              HttpStatus.ACCEPTED));
     } catch (DuplicateEmailException e) {
       errors.rejectValue(e.getMessage(), "duplicate");
-      return new ResponseEntity("이메일이 중복됩니다.", HttpStatus.BAD_REQUEST);
+      return CompletableFuture.completedFuture(
+          new ResponseEntity("이메일이 중복됩니다.", HttpStatus.BAD_REQUEST));
     } catch (DuplicateUsernameException e) {
       errors.rejectValue(e.getMessage(), "duplicate");
-      return new ResponseEntity("아이디가 중복됩니다.", HttpStatus.BAD_REQUEST);
+      return CompletableFuture.completedFuture(
+          new ResponseEntity("아이디가 중복됩니다.", HttpStatus.BAD_REQUEST));
     }
   }
 
@@ -112,28 +121,33 @@ public class MemberController {
   }
 
   @PostMapping("/members/change-password")
-  public ResponseEntity changePassword(@RequestBody ChangePasswordRequest req)
+  public CompletableFuture<ResponseEntity> changePassword(@RequestBody ChangePasswordRequest req)
       throws NoMemberFoundException {
-    try {
-      changePasswordService.changePassword(
-          new ChangePasswordCommand(
-              req.memberId(),
-              req.curPw(),
-              req.newPw()));
-
-      return new ResponseEntity<>(HttpStatus.ACCEPTED);
-    } catch (PasswordNotMatchException e) {
-      return new ResponseEntity<>("이전 비밀번호가 일치 하지 않습니다.", HttpStatus.BAD_REQUEST);
-    }
+    return changePasswordService.changePassword(
+            new ChangePasswordCommand(
+                req.memberId(),
+                req.curPw(),
+                req.newPw()))
+        .thenApply(ignored -> new ResponseEntity(HttpStatus.ACCEPTED));
   }
 
   @PostMapping("/members/sign-in")
-  public ResponseEntity signIn(@RequestBody SignInRequest req) {
-    JwtToken jwtToken = memberService.signIn(new SignInCommand(
-        req.username(),
-        req.password()
-    ));
-    return new ResponseEntity(jwtToken, HttpStatus.ACCEPTED);
+  public CompletableFuture<ResponseEntity> signIn(@RequestBody SignInRequest req) {
+    return memberService.signIn(new SignInCommand(
+            req.username(),
+            req.password()
+        ))
+        .thenApply(jwtToken -> new ResponseEntity(jwtToken, HttpStatus.ACCEPTED));
+  }
+
+  @PostMapping("/members/refresh")
+  public ResponseEntity refresh(@RequestBody RefreshTokenRequest req) {
+    try {
+      JwtToken jwtToken = memberService.refresh(req.refreshToken());
+      return new ResponseEntity(jwtToken, HttpStatus.ACCEPTED);
+    } catch (InvalidRefreshTokenException e) {
+      return new ResponseEntity(e.getMessage(), HttpStatus.UNAUTHORIZED);
+    }
   }
 
   @DeleteMapping("/members/{memberId}")
@@ -146,6 +160,17 @@ public class MemberController {
     }
   }
 
+  //비동기로 완료된 요청의 예외도 여기서 처리된다.
+  @ExceptionHandler(PasswordHashingBusyException.class)
+  public ResponseEntity handlePasswordHashingBusy() {
+    return new ResponseEntity("요청이 많아 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
+  @ExceptionHandler(PasswordNotMatchException.class)
+  public ResponseEntity handlePasswordNotMatch() {
+    return new ResponseEntity<>("이전 비밀번호가 일치 하지 않습니다.", HttpStatus.BAD_REQUEST);
+  }
+
   @GetMapping("/get-current-member")
   public ResponseEntity getCurrentMember(Authentication authentication) {
     MemberDto memberDto = memberService.getMember(authentication.getName());
@@ -0,0 +1,5 @@
+package com.example.ddd_start.member.presentation.model;
+
+public record RefreshTokenRequest(String refreshToken) {
+
+}
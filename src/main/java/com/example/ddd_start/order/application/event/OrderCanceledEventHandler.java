@@ -1,38 +1,56 @@
 package com.example.ddd_start.order.application.event;
 
-import com.example.ddd_start.common.domain.exception.NoOrderException;
+import com.example.ddd_start.common.application.event.BatchEventListener;
+import com.example.ddd_start.common.config.AsyncConfig;
 import com.example.ddd_start.order.domain.Order;
 import com.example.ddd_start.order.domain.OrderLineRepository;
 import com.example.ddd_start.order.domain.OrderRepository;
 import com.example.ddd_start.order.domain.event.OrderCanceledEvent;
 import com.example.ddd_start.order.domain.service.RefundService;
-import javax.transaction.Transactional;
-import javax.transaction.Transactional.TxType;
+import com.example.ddd_start.order.domain.value.RefundState;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
-public class OrderCanceledEventHandler {
+public class OrderCanceledEventHandler implements BatchEventListener<OrderCanceledEvent> {
 
   private final RefundService refundService;
   private final OrderRepository orderRepository;
   private final OrderLineRepository orderLineRepository;
 
-  @Async
-  @Transactional(value = TxType.REQUIRES_NEW)
-  @TransactionalEventListener(
-      classes = OrderCanceledEvent.class,
-      phase = TransactionPhase.AFTER_COMMIT)
-  public void handle(OrderCanceledEvent event) {
-    Order order = orderRepository.findById(event.getOrderId()).orElseThrow(NoOrderException::new);
-    orderLineRepository.deleteByOrderId(order.getId());
-
-    refundService.refund(event.getPaymentId());
-    order.completeRefund();
+  @Override
+  public Class<OrderCanceledEvent> eventType() {
+    return OrderCanceledEvent.class;
+  }
+
+  @Override
+  public String executorName() {
+    return AsyncConfig.ORDER_EXECUTOR;
+  }
+
+  //같은 이벤트가 다시 전달될 수 있으므로 환불이 진행 중인 주문만 처리한다.
+  @Override
+  @Transactional
+  public void onEvents(List<OrderCanceledEvent> events) {
+    List<Long> orderIds = events.stream()
+        .map(OrderCanceledEvent::getOrderId)
+        .distinct()
+        .toList();
+
+    List<Order> orders = orderRepository.findAllById(orderIds).stream()
+        .filter(order -> order.getRefundState() == RefundState.REFUND_START)
+        .toList();
+    if (orders.isEmpty()) {
+      return;
+    }
+
+    orderLineRepository.deleteByOrderIdIn(orders.stream().map(Order::getId).toList());
+    for (Order order : orders) {
+      refundService.refund(order.getPaymentId());
+      order.completeRefund();
+    }
   }
 }
@@ -0,0 +1,50 @@
+package com.example.ddd_start.order.application.event;
+
+import com.example.ddd_start.common.config.AsyncConfig;
+import com.example.ddd_start.order.infrastructure.OrderSummaryJdbcRepository;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * order_summary 가 생기기 전에 접수된 주문의 요약 행을 시작 시 채운다.
+ * 요약 행이 없는 주문만 id 범위 단위로 insert ... select 하므로 여러 번 돌아도 결과가 같다.
+ */
+@Slf4j
+@Component
+public class OrderSummaryBackfill {
+
+  private final OrderSummaryJdbcRepository orderSummaryJdbcRepository;
+  private final boolean enabled;
+  private final int chunkSize;
+
+  public OrderSummaryBackfill(OrderSummaryJdbcRepository orderSummaryJdbcRepository,
+      @Value("${order.summary.backfill:false}") boolean enabled,
+      @Value("${order.summary.backfill-chunk-size:1000}") int chunkSize) {
+    this.orderSummaryJdbcRepository = orderSummaryJdbcRepository;
+    this.enabled = enabled;
+    this.chunkSize = chunkSize;
+  }
+
+  @Async(AsyncConfig.ORDER_EXECUTOR)
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    if (!enabled) {
+      return;
+    }
+    //이 시각 이후의 이벤트만 채운 값을 바꿀 수 있다.
+    Instant now = Instant.now();
+    int filled = 0;
+    long from = 0;
+    Long to;
+    while ((to = orderSummaryJdbcRepository.findOrderIdBoundary(from, chunkSize)) != null) {
+      filled += orderSummaryJdbcRepository.backfill(from, to, now);
+      from = to;
+    }
+    log.info("주문 요약 {}건을 채웠습니다.", filled);
+  }
+}
@@ -0,0 +1,89 @@
+package com.example.ddd_start.order.application.event;
+
+import com.example.ddd_start.common.application.event.BatchEventListener;
+import com.example.ddd_start.common.config.AsyncConfig;
+import com.example.ddd_start.order.domain.event.OrderCanceledEvent;
+import com.example.ddd_start.order.domain.event.OrderEvent;
+import com.example.ddd_start.order.domain.event.OrderPlacedEvent;
+import com.example.ddd_start.order.domain.event.OrderShippedEvent;
+import com.example.ddd_start.order.domain.event.ShippingInfoChangedEvent;
+import com.example.ddd_start.order.domain.value.OrderState;
+import com.example.ddd_start.order.infrastructure.OrderSummaryJdbcRepository;
+import com.example.ddd_start.order.infrastructure.OrderSummaryJdbcRepository.ReceiverChange;
+import com.example.ddd_start.order.infrastructure.OrderSummaryJdbcRepository.StateChange;
+import com.example.ddd_start.product.domain.Product;
+import com.example.ddd_start.product.domain.ProductRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문 이벤트로 order_summary read model 을 갱신한다. 이벤트 종류별로 모아 batch upsert 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryProjector implements BatchEventListener<OrderEvent> {
+
+  private final OrderSummaryJdbcRepository orderSummaryJdbcRepository;
+  private final ProductRepository productRepository;
+
+  @Override
+  public Class<OrderEvent> eventType() {
+    return OrderEvent.class;
+  }
+
+  @Override
+  public String executorName() {
+    return AsyncConfig.ORDER_EXECUTOR;
+  }
+
+  @Override
+  @Transactional
+  public void onEvents(List<OrderEvent> events) {
+    List<OrderPlacedEvent> placed = new ArrayList<>();
+    List<StateChange> states = new ArrayList<>();
+    List<ReceiverChange> receivers = new ArrayList<>();
+    for (OrderEvent event : events) {
+      if (event instanceof OrderPlacedEvent placedEvent) {
+        placed.add(placedEvent);
+      } else if (event instanceof OrderShippedEvent shipped) {
+        states.add(new StateChange(shipped.getOrderId(), OrderState.SHIPPED, shipped.getTimeStamp()));
+      } else if (event instanceof OrderCanceledEvent canceled) {
+        states.add(new StateChange(canceled.getOrderId(), OrderState.CANCEL, canceled.getTimeStamp()));
+      } else if (event instanceof ShippingInfoChangedEvent changed
+          && changed.getShippingInfo() != null && changed.getShippingInfo().getReceiver() != null) {
+        receivers.add(new ReceiverChange(changed.getOrderId(),
+            changed.getShippingInfo().getReceiver().getName(), changed.getTimeStamp()));
+      }
+    }
+
+    if (!placed.isEmpty()) {
+      orderSummaryJdbcRepository.savePlaced(placed, productTitles(placed));
+    }
+    if (!states.isEmpty()) {
+      orderSummaryJdbcRepository.saveStates(states);
+    }
+    if (!receivers.isEmpty()) {
+      orderSummaryJdbcRepository.saveReceivers(receivers);
+    }
+  }
+
+  private Map<Long, String> productTitles(List<OrderPlacedEvent> placed) {
+    List<Long> productIds = placed.stream()
+        .map(OrderPlacedEvent::getFirstProductId)
+        .filter(Objects::nonNull)
+        .distinct()
+        .toList();
+    if (productIds.isEmpty()) {
+      return Map.of();
+    }
+    return productRepository.findAllById(productIds).stream()
+        .filter(product -> product.getTitle() != null)
+        .collect(Collectors.toMap(Product::getId, Product::getTitle));
+  }
+}
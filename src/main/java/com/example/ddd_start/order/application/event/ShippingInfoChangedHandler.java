@@ -1,24 +1,28 @@
 package com.example.ddd_start.order.application.event;
 
+import com.example.ddd_start.common.application.event.BatchEventListener;
+import com.example.ddd_start.common.config.AsyncConfig;
 import com.example.ddd_start.order.domain.event.ShippingInfoChangedEvent;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-public class ShippingInfoChangedHandler {
+public class ShippingInfoChangedHandler implements BatchEventListener<ShippingInfoChangedEvent> {
 
-  @Async
-  @EventListener(ShippingInfoChangedEvent.class)
-  public void loggingShippingInfoChanged(ShippingInfoChangedEvent event) {
-    log.info("배송정보가 변경되었습니다.");
+  @Override
+  public Class<ShippingInfoChangedEvent> eventType() {
+    return ShippingInfoChangedEvent.class;
   }
 
-  @Async
-  @EventListener(ShippingInfoChangedEvent.class)
-  public void loggingShippingInfoChanged2(ShippingInfoChangedEvent event) {
-    log.info("배송정보가 변경되었습니다.2");
+  @Override
+  public String executorName() {
+    return AsyncConfig.ORDER_EXECUTOR;
+  }
+
+  @Override
+  public void onEvents(List<ShippingInfoChangedEvent> events) {
+    events.forEach(event -> log.info("배송정보가 변경되었습니다. orderId={}", event.getOrderId()));
   }
 }
@@ -0,0 +1,13 @@
+package com.example.ddd_start.order.application.model;
+
+//요청 목록의 index 순서대로 주문별 결과를 담는다.
+public record BulkPlaceOrderResult(int index, boolean placed, Long orderId, String reason) {
+
+  public static BulkPlaceOrderResult placed(int index, Long orderId) {
+    return new BulkPlaceOrderResult(index, true, orderId, null);
+  }
+
+  public static BulkPlaceOrderResult rejected(int index, String reason) {
+    return new BulkPlaceOrderResult(index, false, null, reason);
+  }
+}
@@ -0,0 +1,5 @@
+package com.example.ddd_start.order.application.model;
+
+public record BulkShippingCommand(Long orderId, Integer version) {
+
+}
@@ -0,0 +1,18 @@
+package com.example.ddd_start.order.application.model;
+
+//요청 순서대로 주문별 출고 결과를 담는다. 버전 충돌이면 currentVersion 으로 다시 요청할 수 있다.
+public record BulkShippingResult(Long orderId, Status status, Integer currentVersion) {
+
+  public enum Status {
+    SHIPPED,
+    VERSION_CONFLICT,
+    INVALID_STATE,
+    NOT_FOUND,
+    DUPLICATED,
+    FAILED
+  }
+
+  public boolean shipped() {
+    return status == Status.SHIPPED;
+  }
+}
@@ -0,0 +1,20 @@
+package com.example.ddd_start.order.application.model;
+
+import com.example.ddd_start.common.domain.Money;
+import com.example.ddd_start.order.domain.dto.OrderHistoryLineDto;
+import com.example.ddd_start.order.domain.value.OrderState;
+import java.time.Instant;
+import java.util.List;
+
+public record OrderHistoryResponse(List<Item> orders, String nextCursor) {
+
+  public record Item(
+      Long orderId,
+      String orderNumber,
+      OrderState orderState,
+      Money totalAmounts,
+      Instant createdAt,
+      List<OrderHistoryLineDto> orderLines) {
+
+  }
+}
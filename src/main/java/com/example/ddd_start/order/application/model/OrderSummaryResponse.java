@@ -0,0 +1,30 @@
+package com.example.ddd_start.order.application.model;
+
+import com.example.ddd_start.order.domain.OrderSummary;
+import com.example.ddd_start.order.domain.value.OrderState;
+import java.time.Instant;
+
+public record OrderSummaryResponse(
+    Long orderId,
+    String orderNumber,
+    OrderState orderState,
+    Integer totalAmounts,
+    Integer paymentAmounts,
+    Integer lineCount,
+    String firstProductTitle,
+    String receiverName,
+    Instant createdAt) {
+
+  public static OrderSummaryResponse from(OrderSummary summary) {
+    return new OrderSummaryResponse(
+        summary.getOrderId(),
+        summary.getOrderNumber(),
+        summary.getOrderState(),
+        summary.getTotalAmounts(),
+        summary.getPaymentAmounts(),
+        summary.getLineCount(),
+        summary.getFirstProductTitle(),
+        summary.getReceiverName(),
+        summary.getCreatedAt());
+  }
+}
@@ -1,6 +1,7 @@
 package com.example.ddd_start.order.application.model;
 
 import com.example.ddd_start.coupon.application.model.UserCouponDto;
+import com.example.ddd_start.member.domain.MemberGrade;
 import com.example.ddd_start.order.domain.dto.OrderLineDto;
 import com.example.ddd_start.order.domain.value.Orderer;
 import com.example.ddd_start.order.domain.value.PaymentInfo;
@@ -12,6 +13,7 @@ public record PlaceOrderCommand(List<OrderLineDto> orderLines,
                                 String message,
                                 Orderer orderer,
                                 PaymentInfo paymentInfo,
-                                List<UserCouponDto> coupons) {
+                                List<UserCouponDto> coupons,
+                                MemberGrade memberGrade) {
 
 }
@@ -0,0 +1,291 @@
+package com.example.ddd_start.order.application.service;
+
+import com.example.ddd_start.common.application.event.OutboxEventPublisher;
+import com.example.ddd_start.common.domain.exception.OutOfStockException;
+import com.example.ddd_start.coupon.application.model.UserCouponDto;
+import com.example.ddd_start.coupon.domain.UserCoupon;
+import com.example.ddd_start.coupon.domain.UserCouponRepository;
+import com.example.ddd_start.inventory.application.StockService;
+import com.example.ddd_start.member.domain.Member;
+import com.example.ddd_start.member.domain.MemberRepository;
+import com.example.ddd_start.order.application.model.BulkPlaceOrderResult;
+import com.example.ddd_start.order.application.model.PlaceOrderCommand;
+import com.example.ddd_start.order.domain.Order;
+import com.example.ddd_start.order.domain.OrderLine;
+import com.example.ddd_start.order.domain.OrderLineRepository;
+import com.example.ddd_start.order.domain.OrderRepository;
+import com.example.ddd_start.order.domain.dto.OrderLineDto;
+import com.example.ddd_start.order.domain.event.OrderEvent;
+import com.example.ddd_start.order.domain.service.DiscountCalculationService;
+import com.example.ddd_start.product.application.service.ProductPriceCatalog;
+import com.example.ddd_start.product.application.service.model.ProductPriceSnapshot;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 여러 주문을 한 번에 접수한다. (B2B 일괄 주문, 장애 후 재처리)
+ * 1. 모든 명령을 먼저 검증하고
+ * 2. 상품/회원/쿠폰을 종류별로 한 번씩만 조회한 뒤
+ * 3. 메모리에서 재고를 예약하고 금액과 할인을 계산한 뒤
+ * 4. chunk 단위 트랜잭션으로 batch 저장한다.
+ * 실패한 주문은 건너뛰고 주문별 결과로 알려준다. chunk 저장이 실패하면 그 chunk 의 주문만 실패 처리된다.
+ */
+@Slf4j
+@Service
+public class BulkOrderService {
+
+  private final OrderRepository orderRepository;
+  private final OrderLineRepository orderLineRepository;
+  private final ProductPriceCatalog productPriceCatalog;
+  private final MemberRepository memberRepository;
+  private final UserCouponRepository userCouponRepository;
+  private final DiscountCalculationService discountCalculationService;
+  private final StockService stockService;
+  private final OutboxEventPublisher outboxEventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final int maxSize;
+
+  public BulkOrderService(OrderRepository orderRepository,
+      OrderLineRepository orderLineRepository,
+      ProductPriceCatalog productPriceCatalog,
+      MemberRepository memberRepository,
+      UserCouponRepository userCouponRepository,
+      DiscountCalculationService discountCalculationService,
+      StockService stockService,
+      OutboxEventPublisher outboxEventPublisher,
+      PlatformTransactionManager transactionManager,
+      @Value("${order.bulk.chunk-size:100}") int chunkSize,
+      @Value("${order.bulk.max-size:1000}") int maxSize) {
+    this.orderRepository = orderRepository;
+    this.orderLineRepository = orderLineRepository;
+    this.productPriceCatalog = productPriceCatalog;
+    this.memberRepository = memberRepository;
+    this.userCouponRepository = userCouponRepository;
+    this.discountCalculationService = discountCalculationService;
+    this.stockService = stockService;
+    this.outboxEventPublisher = outboxEventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+    this.maxSize = maxSize;
+  }
+
+  public List<BulkPlaceOrderResult> placeOrders(List<PlaceOrderCommand> commands) {
+    if (commands == null || commands.isEmpty()) {
+      throw new IllegalArgumentException("주문이 비어 있습니다.");
+    }
+    if (commands.size() > maxSize) {
+      throw new IllegalArgumentException("한 번에 " + maxSize + "건까지 주문할 수 있습니다.");
+    }
+
+    BulkPlaceOrderResult[] results = new BulkPlaceOrderResult[commands.size()];
+    for (int i = 0; i < commands.size(); i++) {
+      String error = validate(commands.get(i));
+      if (error != null) {
+        results[i] = BulkPlaceOrderResult.rejected(i, error);
+      }
+    }
+
+    List<PlaceOrderCommand> validCommands = new ArrayList<>();
+    for (int i = 0; i < commands.size(); i++) {
+      if (results[i] == null) {
+        validCommands.add(commands.get(i));
+      }
+    }
+    //종류별로 한 번씩만 조회한다.
+    Map<Long, ProductPriceSnapshot> products = productPriceCatalog.findAvailable(
+        collect(validCommands, command -> command.orderLines().stream().map(OrderLineDto::productId)));
+    Map<Long, Member> members = load(
+        collect(validCommands, command -> Stream.of(command.orderer().getMemberId())),
+        memberRepository::findAllById, Member::getId);
+    Map<Long, UserCoupon> coupons = load(
+        collect(validCommands, command -> command.coupons() == null
+            ? Stream.empty()
+            : command.coupons().stream().map(UserCouponDto::id)),
+        userCouponRepository::findAllWithMemberByIdIn, UserCoupon::getId);
+
+    List<PendingOrder> pendingOrders = new ArrayList<>();
+    Set<Long> reservedCoupons = new HashSet<>();
+    try {
+      for (int i = 0; i < commands.size(); i++) {
+        if (results[i] != null) {
+          continue;
+        }
+        try {
+          pendingOrders.add(price(i, commands.get(i), products, members, coupons, reservedCoupons));
+        } catch (IllegalArgumentException | IllegalStateException | OutOfStockException e) {
+          results[i] = BulkPlaceOrderResult.rejected(i, e.getMessage());
+        }
+      }
+    } catch (RuntimeException e) {
+      //예상하지 못한 예외로 중단되면 저장 전에 잡아 둔 재고 예약을 모두 돌려준다.
+      pendingOrders.forEach(pending -> stockService.release(pending.stockQuantities()));
+      throw e;
+    }
+
+    for (int from = 0; from < pendingOrders.size(); from += chunkSize) {
+      List<PendingOrder> chunk =
+          pendingOrders.subList(from, Math.min(from + chunkSize, pendingOrders.size()));
+      try {
+        transactionTemplate.executeWithoutResult(status -> persist(chunk));
+        chunk.forEach(pending ->
+            results[pending.index()] = BulkPlaceOrderResult.placed(pending.index(), pending.order().getId()));
+      } catch (RuntimeException e) {
+        log.warn("일괄 주문 chunk 저장 실패: size={}", chunk.size(), e);
+        chunk.forEach(pending -> {
+          stockService.release(pending.stockQuantities());
+          results[pending.index()] = BulkPlaceOrderResult.rejected(pending.index(), "저장에 실패했습니다.");
+        });
+      }
+    }
+
+    return List.of(results);
+  }
+
+  private String validate(PlaceOrderCommand command) {
+    if (command == null) {
+      return "empty";
+    }
+    if (command.orderer() == null || command.orderer().getMemberId() == null) {
+      return "orderer: empty";
+    }
+    if (command.orderLines() == null || command.orderLines().isEmpty()) {
+      return "orderLine: empty";
+    }
+    if (command.shippingInfo() == null) {
+      return "shippingInfo: empty";
+    }
+    for (OrderLineDto orderLine : command.orderLines()) {
+      if (orderLine.productId() == null
+          || orderLine.quantity() == null || orderLine.quantity() <= 0) {
+        return "orderLine: invalid";
+      }
+    }
+    if (command.coupons() != null) {
+      Set<Long> couponIds = new HashSet<>();
+      for (UserCouponDto coupon : command.coupons()) {
+        if (coupon == null || coupon.id() == null) {
+          return "coupon: invalid";
+        }
+        //같은 쿠폰을 한 주문에 두 번 넣어 할인을 두 번 받지 못하게 한다.
+        if (!couponIds.add(coupon.id())) {
+          return "coupon: duplicated";
+        }
+      }
+    }
+    return null;
+  }
+
+  private PendingOrder price(int index, PlaceOrderCommand command,
+      Map<Long, ProductPriceSnapshot> products,
+      Map<Long, Member> members, Map<Long, UserCoupon> coupons, Set<Long> reservedCoupons) {
+    Long memberId = command.orderer().getMemberId();
+    if (!members.containsKey(memberId)) {
+      throw new IllegalArgumentException("Member not found: " + memberId);
+    }
+
+    List<OrderLine> orderLines = command.orderLines().stream()
+        .map(orderLineDto -> {
+          ProductPriceSnapshot snapshot = products.get(orderLineDto.productId());
+          if (snapshot == null) {
+            throw new IllegalArgumentException("Product not found: " + orderLineDto.productId());
+          }
+          return new OrderLine(snapshot.productId(), snapshot.price(), orderLineDto.quantity());
+        })
+        .toList();
+
+    List<UserCoupon> userCoupons = new ArrayList<>();
+    if (command.coupons() != null) {
+      for (UserCouponDto couponDto : command.coupons()) {
+        UserCoupon coupon = coupons.get(couponDto.id());
+        if (coupon == null || !Objects.equals(coupon.getMember().getId(), memberId)) {
+          throw new IllegalArgumentException("Coupon not found: " + couponDto.id());
+        }
+        if (coupon.getIsUsed() || reservedCoupons.contains(coupon.getId())) {
+          throw new IllegalStateException("이미 사용한 쿠폰입니다: " + couponDto.id());
+        }
+        userCoupons.add(coupon);
+      }
+    }
+
+    //트랜잭션 밖이므로 예약 해제는 직접 한다.
+    Map<Long, Integer> quantities = OrderLine.quantitiesByProduct(orderLines);
+    stockService.reserve(quantities);
+    try {
+      Order order = new Order(
+          orderLines,
+          command.shippingInfo(),
+          command.message(),
+          command.orderer(),
+          command.paymentInfo()
+      );
+      order.calculateAmounts(discountCalculationService, userCoupons);
+      userCoupons.forEach(coupon -> reservedCoupons.add(coupon.getId()));
+      return new PendingOrder(index, order, orderLines,
+          userCoupons.stream().map(UserCoupon::getId).toList(), quantities);
+    } catch (RuntimeException e) {
+      stockService.release(quantities);
+      throw e;
+    }
+  }
+
+  private void persist(List<PendingOrder> chunk) {
+    List<Long> couponIds = chunk.stream()
+        .flatMap(pending -> pending.couponIds().stream())
+        .toList();
+    //다른 요청이 그 사이에 쓴 쿠폰이 있으면 chunk 전체를 롤백한다.
+    if (!couponIds.isEmpty()
+        && userCouponRepository.markUsed(couponIds, Instant.now()) != couponIds.size()) {
+      throw new IllegalStateException("이미 사용한 쿠폰이 포함되어 있습니다.");
+    }
+
+    orderRepository.saveAll(chunk.stream().map(PendingOrder::order).toList());
+    List<OrderLine> orderLines = new ArrayList<>();
+    for (PendingOrder pending : chunk) {
+      pending.orderLines().forEach(orderLine -> orderLine.changeOrder(pending.order()));
+      orderLines.addAll(pending.orderLines());
+    }
+    orderLineRepository.saveAll(orderLines);
+
+    List<OrderEvent> events = new ArrayList<>();
+    for (PendingOrder pending : chunk) {
+      pending.order().registerPlacedEvent();
+      events.addAll(pending.order().getOrderEvents());
+    }
+    outboxEventPublisher.publishAll(events);
+  }
+
+  private Set<Long> collect(List<PlaceOrderCommand> commands,
+      Function<PlaceOrderCommand, Stream<Long>> ids) {
+    return commands.stream()
+        .flatMap(ids)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+  }
+
+  private <T> Map<Long, T> load(Set<Long> ids, Function<Set<Long>, List<T>> finder,
+      Function<T, Long> id) {
+    if (ids.isEmpty()) {
+      return Map.of();
+    }
+    return finder.apply(ids).stream().collect(Collectors.toMap(id, Function.identity()));
+  }
+
+  private record PendingOrder(int index, Order order, List<OrderLine> orderLines,
+                              List<Long> couponIds, Map<Long, Integer> stockQuantities) {
+
+  }
+}
@@ -0,0 +1,153 @@
+package com.example.ddd_start.order.application.service;
+
+import com.example.ddd_start.common.application.event.OutboxEventPublisher;
+import com.example.ddd_start.order.application.model.BulkShippingCommand;
+import com.example.ddd_start.order.application.model.BulkShippingResult;
+import com.example.ddd_start.order.application.model.BulkShippingResult.Status;
+import com.example.ddd_start.order.domain.event.OrderShippedEvent;
+import com.example.ddd_start.order.domain.value.OrderState;
+import com.example.ddd_start.order.infrastructure.OrderShippingJdbcRepository;
+import com.example.ddd_start.order.infrastructure.OrderShippingJdbcRepository.ShippingState;
+import com.example.ddd_start.order.infrastructure.OrderShippingJdbcRepository.ShippingTarget;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 창고 출고 웨이브를 한 번에 처리한다. 주문을 엔티티로 읽지 않고
+ * 1. chunk 마다 (id, version, 상태) 조건부 update 를 batch 로 보내고
+ * 2. 갱신되지 않은 주문만 한 번 더 조회해 실패 사유(버전 충돌, 상태, 없음)를 구분한 뒤
+ * 3. 출고된 주문의 이벤트를 같은 트랜잭션에서 outbox 에 저장한다.
+ * chunk 저장이 실패하면 그 chunk 의 주문만 실패 처리된다.
+ */
+@Slf4j
+@Service
+public class BulkShippingService {
+
+  private final OrderShippingJdbcRepository orderShippingJdbcRepository;
+  private final OutboxEventPublisher outboxEventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final int maxSize;
+
+  public BulkShippingService(OrderShippingJdbcRepository orderShippingJdbcRepository,
+      OutboxEventPublisher outboxEventPublisher,
+      PlatformTransactionManager transactionManager,
+      @Value("${order.shipping.chunk-size:500}") int chunkSize,
+      @Value("${order.shipping.max-size:10000}") int maxSize) {
+    this.orderShippingJdbcRepository = orderShippingJdbcRepository;
+    this.outboxEventPublisher = outboxEventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+    this.maxSize = maxSize;
+  }
+
+  public List<BulkShippingResult> startShipping(List<BulkShippingCommand> commands) {
+    if (commands == null || commands.isEmpty()) {
+      throw new IllegalArgumentException("출고할 주문이 비어 있습니다.");
+    }
+    if (commands.size() > maxSize) {
+      throw new IllegalArgumentException("한 번에 " + maxSize + "건까지 출고할 수 있습니다.");
+    }
+
+    BulkShippingResult[] results = new BulkShippingResult[commands.size()];
+    List<Integer> targets = new ArrayList<>();
+    Set<Long> seen = new HashSet<>();
+    for (int i = 0; i < commands.size(); i++) {
+      BulkShippingCommand command = commands.get(i);
+      if (command == null || command.orderId() == null || command.version() == null) {
+        throw new IllegalArgumentException("orderId 와 version 은 필수입니다: index=" + i);
+      }
+      //같은 주문이 두 번 오면 두 번째는 반드시 버전 충돌이 나므로 처음 것만 처리한다.
+      if (!seen.add(command.orderId())) {
+        results[i] = new BulkShippingResult(command.orderId(), Status.DUPLICATED, null);
+        continue;
+      }
+      targets.add(i);
+    }
+
+    for (int from = 0; from < targets.size(); from += chunkSize) {
+      List<Integer> chunk = targets.subList(from, Math.min(from + chunkSize, targets.size()));
+      try {
+        transactionTemplate.executeWithoutResult(status -> ship(commands, chunk, results));
+      } catch (RuntimeException e) {
+        log.warn("일괄 출고 chunk 처리 실패: size={}", chunk.size(), e);
+        //롤백됐으므로 성공으로 기록했던 결과도 실패로 덮어쓴다.
+        chunk.forEach(i ->
+            results[i] = new BulkShippingResult(commands.get(i).orderId(), Status.FAILED, null));
+      }
+    }
+
+    return List.of(results);
+  }
+
+  private void ship(List<BulkShippingCommand> commands, List<Integer> chunk,
+      BulkShippingResult[] results) {
+    int[] updated = orderShippingJdbcRepository.markShipped(chunk.stream()
+        .map(commands::get)
+        .map(command -> new ShippingTarget(command.orderId(), command.version()))
+        .toList());
+
+    List<Integer> unresolved = new ArrayList<>();
+    Set<Integer> noInfo = new HashSet<>();
+    List<OrderShippedEvent> events = new ArrayList<>();
+    for (int j = 0; j < chunk.size(); j++) {
+      int index = chunk.get(j);
+      BulkShippingCommand command = commands.get(index);
+      if (updated[j] == 1) {
+        results[index] = new BulkShippingResult(command.orderId(), Status.SHIPPED,
+            command.version() + 1);
+        events.add(new OrderShippedEvent(command.orderId()));
+      } else {
+        //드라이버가 건별 결과를 주지 않는 경우(SUCCESS_NO_INFO)도 다시 조회해서 판단한다.
+        if (updated[j] == Statement.SUCCESS_NO_INFO) {
+          noInfo.add(index);
+        }
+        unresolved.add(index);
+      }
+    }
+
+    if (!unresolved.isEmpty()) {
+      Map<Long, ShippingState> states = orderShippingJdbcRepository
+          .findStates(unresolved.stream().map(i -> commands.get(i).orderId()).toList())
+          .stream()
+          .collect(Collectors.toMap(ShippingState::orderId, Function.identity()));
+      for (int index : unresolved) {
+        BulkShippingCommand command = commands.get(index);
+        results[index] = resolve(command, states.get(command.orderId()), noInfo.contains(index));
+        if (results[index].shipped()) {
+          events.add(new OrderShippedEvent(command.orderId()));
+        }
+      }
+    }
+
+    outboxEventPublisher.publishAll(events);
+  }
+
+  //이번 update 가 적용됐는지 모를 때(SUCCESS_NO_INFO)만 "출고됨 + 요청 version + 1" 을 이번 출고로 본다.
+  //갱신 건수가 0 으로 확인됐다면 같은 모양이어도 다른 요청이 출고한 것이다.
+  private BulkShippingResult resolve(BulkShippingCommand command, ShippingState state,
+      boolean noInfo) {
+    if (state == null) {
+      return new BulkShippingResult(command.orderId(), Status.NOT_FOUND, null);
+    }
+    if (state.orderState() == OrderState.SHIPPED && state.version() == command.version() + 1) {
+      Status status = noInfo ? Status.SHIPPED : Status.INVALID_STATE;
+      return new BulkShippingResult(command.orderId(), status, state.version());
+    }
+    if (!state.version().equals(command.version())) {
+      return new BulkShippingResult(command.orderId(), Status.VERSION_CONFLICT, state.version());
+    }
+    return new BulkShippingResult(command.orderId(), Status.INVALID_STATE, state.version());
+  }
+}
@@ -1,27 +1,36 @@
 package com.example.ddd_start.order.application.service;
 
-import com.example.ddd_start.common.application.event.Events;
+import com.example.ddd_start.common.application.event.OutboxEventPublisher;
 import com.example.ddd_start.common.domain.exception.NoOrderException;
+import com.example.ddd_start.inventory.application.StockService;
 import com.example.ddd_start.order.domain.Order;
+import com.example.ddd_start.order.domain.OrderLine;
+import com.example.ddd_start.order.domain.OrderLineRepository;
 import com.example.ddd_start.order.domain.OrderRepository;
-import com.example.ddd_start.order.domain.service.RefundService;
-import javax.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class CancelOrderService {
 
-  private RefundService refundService;
-  private OrderRepository orderRepository;
+  private final OrderRepository orderRepository;
+  private final OutboxEventPublisher outboxEventPublisher;
+  private final OrderLineRepository orderLineRepository;
+  private final StockService stockService;
 
   @Transactional
   public void cancel(Long orderId) {
     Order order = orderRepository.findById(orderId).orElseThrow(NoOrderException::new);
     order.cancel();
 
-    Events.raiseEvents(order.getOrderEvents());
+    stockService.releaseAfterCommit(
+        OrderLine.quantitiesByProduct(orderLineRepository.findByOrderId(orderId)));
+
+    outboxEventPublisher.publishAll(order.getOrderEvents());
   }
 
 }
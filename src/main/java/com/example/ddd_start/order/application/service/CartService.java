@@ -24,13 +24,13 @@ public class CartService {
 
   @Transactional
   public Long save(CreateCartCommand cmd) {
-    Member member = memberRepository.findById(cmd.memberId())
-        .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+    //memberId 는 검증된 토큰에서 온 값이므로 조회 없이 참조만 사용한다.
+    Member member = memberRepository.getReferenceById(cmd.memberId());
     Product product = productRepository.findById(cmd.productId())
         .orElseThrow(() -> new IllegalArgumentException("Product not found"));
 
     Optional<Cart> byMemberIdAndProductId = cartRepository.findByMemberIdAndProductId(
-        member.getId(), product.getId());
+        cmd.memberId(), product.getId());
 
     if(byMemberIdAndProductId.isPresent()) {
       Cart cart = byMemberIdAndProductId.get();
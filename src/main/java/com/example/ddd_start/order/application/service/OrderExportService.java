@@ -0,0 +1,121 @@
+package com.example.ddd_start.order.application.service;
+
+import com.example.ddd_start.order.application.model.OrderExportFormat;
+import com.example.ddd_start.order.domain.OrderRepository;
+import com.example.ddd_start.order.domain.OrderSearchCondition;
+import com.example.ddd_start.order.domain.dto.OrderExportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.DatabaseMetaData;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 관리자용 주문 내보내기. DB 커서에서 한 행씩 읽어 바로 응답 스트림에 쓰므로 전체 목록을 메모리에 올리지 않는다.
+ * MySQL 은 이 쿼리에만 fetch size Integer.MIN_VALUE 로 행 단위 streaming 을 켜고, 다른 DB 는 설정한 fetch size 를 쓴다.
+ */
+@Slf4j
+@Service
+public class OrderExportService {
+
+  private static final String CSV_HEADER =
+      "order_id,order_number,order_state,member_id,orderer_name,receiver_name,"
+          + "total_amounts,payment_amounts,created_at";
+  //탭과 CR 로 시작하는 값도 일부 스프레드시트가 공백을 건너뛰고 수식으로 해석한다.
+  private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+  private final OrderRepository orderRepository;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate readOnlyTransaction;
+  private final int fetchSize;
+
+  public OrderExportService(OrderRepository orderRepository,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      DataSource dataSource,
+      @Value("${order.export.fetch-size:1000}") int fetchSize) {
+    this.orderRepository = orderRepository;
+    this.objectMapper = objectMapper;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.fetchSize = isMySql(dataSource) ? Integer.MIN_VALUE : fetchSize;
+  }
+
+  //요청 스레드가 아닌 StreamingResponseBody 스레드에서 호출되므로 트랜잭션을 직접 연다.
+  public void export(OrderSearchCondition condition, OrderExportFormat format,
+      OutputStream outputStream) {
+    Writer writer = new BufferedWriter(
+        new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    readOnlyTransaction.executeWithoutResult(status -> {
+      try (Stream<OrderExportRow> rows = orderRepository.streamForExport(condition, fetchSize)) {
+        if (format == OrderExportFormat.CSV) {
+          writer.write(CSV_HEADER);
+          writer.write('\n');
+        }
+        Iterator<OrderExportRow> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+          writeRow(writer, format, iterator.next());
+        }
+        writer.flush();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  private void writeRow(Writer writer, OrderExportFormat format, OrderExportRow row)
+      throws IOException {
+    if (format == OrderExportFormat.NDJSON) {
+      writer.write(objectMapper.writeValueAsString(row));
+    } else {
+      writer.write(Stream.of(row.orderId(), row.orderNumber(), row.orderState(), row.memberId(),
+              row.ordererName(), row.receiverName(), row.totalAmounts(), row.paymentAmounts(),
+              row.createdAt())
+          .map(this::csvValue)
+          .collect(Collectors.joining(",")));
+    }
+    writer.write('\n');
+  }
+
+  private String csvValue(Object value) {
+    if (value == null) {
+      return "";
+    }
+    String text = Objects.toString(value);
+    //스프레드시트가 수식으로 실행하지 않도록 앞에 ' 를 붙인다. (CSV injection)
+    if (!text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+      text = "'" + text;
+    }
+    if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+      return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+    return text;
+  }
+
+  private boolean isMySql(DataSource dataSource) {
+    try {
+      String productName = JdbcUtils.extractDatabaseMetaData(dataSource,
+          DatabaseMetaData::getDatabaseProductName);
+      return "MySQL".equals(JdbcUtils.commonDatabaseName(productName));
+    } catch (MetaDataAccessException e) {
+      log.warn("DB 종류를 알 수 없어 설정한 fetch size 로 내보냅니다.", e);
+      return false;
+    }
+  }
+}
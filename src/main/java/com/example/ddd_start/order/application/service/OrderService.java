@@ -1,15 +1,20 @@
 package com.example.ddd_start.order.application.service;
 
+import com.example.ddd_start.common.application.event.OutboxEventPublisher;
 import com.example.ddd_start.common.domain.error.ValidationError;
 import com.example.ddd_start.common.domain.exception.NoMemberFoundException;
 import com.example.ddd_start.common.domain.exception.NoOrderException;
 import com.example.ddd_start.common.domain.exception.ValidationErrorException;
 import com.example.ddd_start.common.domain.exception.VersionConflictException;
 import com.example.ddd_start.coupon.application.model.UserCouponDto;
+import com.example.ddd_start.inventory.application.StockService;
 import com.example.ddd_start.member.domain.Member;
+import com.example.ddd_start.member.domain.MemberGrade;
 import com.example.ddd_start.member.domain.MemberRepository;
 import com.example.ddd_start.order.application.model.ChangeOrderShippingInfoCommand;
 import com.example.ddd_start.order.application.model.FindOrderResponse;
+import com.example.ddd_start.order.application.model.OrderHistoryResponse;
+import com.example.ddd_start.order.application.model.OrderSummaryResponse;
 import com.example.ddd_start.order.application.model.PlaceOrderCommand;
 import com.example.ddd_start.order.application.model.StartShippingCommand;
 import com.example.ddd_start.order.application.model.UpdateOrderCommand;
@@ -17,13 +22,18 @@ import com.example.ddd_start.order.domain.Order;
 import com.example.ddd_start.order.domain.OrderLine;
 import com.example.ddd_start.order.domain.OrderLineRepository;
 import com.example.ddd_start.order.domain.OrderRepository;
+import com.example.ddd_start.order.domain.OrderSummary;
+import com.example.ddd_start.order.domain.OrderSummaryRepository;
 import com.example.ddd_start.order.domain.dto.OrderDto;
+import com.example.ddd_start.order.domain.dto.OrderHistoryDto;
+import com.example.ddd_start.order.domain.dto.OrderHistoryLineDto;
 import com.example.ddd_start.order.domain.dto.OrderLineDto;
 import com.example.ddd_start.order.domain.service.DiscountCalculationService;
+import com.example.ddd_start.order.domain.value.OrderHistoryCursor;
 import com.example.ddd_start.order.domain.value.OrderState;
 import com.example.ddd_start.order.domain.value.ShippingInfo;
-import com.example.ddd_start.product.domain.Product;
-import com.example.ddd_start.product.domain.ProductRepository;
+import com.example.ddd_start.product.application.service.ProductPriceCatalog;
+import com.example.ddd_start.product.application.service.model.ProductPriceSnapshot;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -31,7 +41,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,18 +50,27 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class OrderService {
 
+  private static final int MAX_HISTORY_SIZE = 100;
+
   private final OrderRepository orderRepository;
   private final MemberRepository memberRepository;
   private final DiscountCalculationService discountCalculationService;
-  private final ApplicationEventPublisher eventPublisher;
-  private final ProductRepository productRepository;
+  private final OutboxEventPublisher outboxEventPublisher;
+  private final ProductPriceCatalog productPriceCatalog;
   private final OrderLineRepository orderLineRepository;
+  private final StockService stockService;
+  private final OrderSummaryRepository orderSummaryRepository;
 
   @Transactional
   public void cancelOrder(Long orderId) {
     Optional<Order> optionalOrder = orderRepository.findById(orderId);
     Order order = optionalOrder.orElseThrow(NoOrderException::new);
     order.cancel();
+
+    //주문 라인은 취소 이벤트 처리에서 지워지므로 지금 읽어 둔다.
+    stockService.releaseAfterCommit(
+        OrderLine.quantitiesByProduct(orderLineRepository.findByOrderId(orderId)));
+    outboxEventPublisher.publishAll(order.getOrderEvents());
   }
 
   @Transactional
@@ -69,7 +88,7 @@ public class OrderService {
       member.changeAddress(newShippingInfo.getAddress());
     }
 
-    order.getOrderEvents().forEach(eventPublisher::publishEvent);
+    outboxEventPublisher.publishAll(order.getOrderEvents());
   }
 
   @Transactional
@@ -100,20 +119,22 @@ public class OrderService {
     List<Long> productIds = orderLineDtos.stream()
         .map(OrderLineDto::productId)
         .toList();
-    Map<Long, Product> productMap = productRepository.findAllById(productIds)
-        .stream()
-        .collect(Collectors.toMap(Product::getId, p -> p));
+    //가격은 클라이언트 값이 아닌 서버 스냅샷 가격을 사용한다.
+    Map<Long, ProductPriceSnapshot> snapshots = productPriceCatalog.findAvailable(productIds);
 
     List<OrderLine> orderLines = orderLineDtos.stream()
         .map(orderLineDto -> {
-          Product product = productMap.get(orderLineDto.productId());
-          if (product == null) {
+          ProductPriceSnapshot snapshot = snapshots.get(orderLineDto.productId());
+          if (snapshot == null) {
             throw new IllegalArgumentException("Product not found: " + orderLineDto.productId());
           }
-          return new OrderLine(product, orderLineDto.price(), orderLineDto.quantity());
+          return new OrderLine(snapshot.productId(), snapshot.price(), orderLineDto.quantity());
         })
         .toList();
 
+    //재고가 부족하면 주문을 만들지 않는다. 이후 롤백되면 예약은 자동으로 해제된다.
+    stockService.reserve(OrderLine.quantitiesByProduct(orderLines));
+
     Order order = new Order(
         orderLines,
         command.shippingInfo(),
@@ -121,21 +142,27 @@ public class OrderService {
         command.orderer(),
         command.paymentInfo()
     );
-    calculatePaymentInfo(order, command.coupons());
+    calculatePaymentInfo(order, command.coupons(), command.memberGrade());
     Order savedOrder = orderRepository.save(order);
 
     orderLines.forEach(orderLine -> orderLine.changeOrder(savedOrder));
     orderLineRepository.saveAll(orderLines);
 
+    savedOrder.registerPlacedEvent();
+    outboxEventPublisher.publishAll(savedOrder.getOrderEvents());
     return savedOrder.getId();
   }
 
-  private void calculatePaymentInfo(Order order, List<UserCouponDto> coupons)
-      throws NoMemberFoundException {
-    Member member = memberRepository.findById(order.getOrderer().getMemberId())
-        .orElseThrow(NoMemberFoundException::new);
+  //토큰에 담긴 회원 등급이 있으면 회원 조회를 생략한다.
+  private void calculatePaymentInfo(Order order, List<UserCouponDto> coupons,
+      MemberGrade memberGrade) throws NoMemberFoundException {
+    if (memberGrade == null) {
+      Member member = memberRepository.findById(order.getOrderer().getMemberId())
+          .orElseThrow(NoMemberFoundException::new);
+      memberGrade = member.getMemberGrade();
+    }
 
-    order.calculateAmounts(discountCalculationService, member.getMemberGrade(), coupons);
+    order.calculateAmounts(discountCalculationService, memberGrade, coupons);
   }
 
   @Transactional
@@ -146,6 +173,7 @@ public class OrderService {
     }
 
     order.changeShipped();
+    outboxEventPublisher.publishAll(order.getOrderEvents());
   }
 
   @Transactional(readOnly = true)
@@ -163,18 +191,86 @@ public class OrderService {
         .collect(Collectors.groupingBy(OrderLine::getOrderId));
 
     return orders.stream()
-        .map(o -> new FindOrderResponse(
-            o.getId(),
-            o.getOrderState(),
-            o.getShippingInfo(),
-            o.getMessage(),
-            o.getTotalAmounts(),
-            o.getOrderer().getName(),
-            o.getCreatedAt(),
-            o.getPaymentInfo(),
-            orderLineMap.getOrDefault(o.getId(), List.of())
-        ))
+        .map(o -> toFindOrderResponse(o, orderLineMap.getOrDefault(o.getId(), List.of())))
+        .toList();
+  }
+
+  /**
+   * 회원 주문 이력을 최신순으로 size 건씩 조회한다. cursor 는 이전 응답의 nextCursor 이고, 마지막 페이지면
+   * nextCursor 가 null 이다. 이력 길이와 상관없이 한 페이지 분량의 주문과 주문 항목만 읽는다.
+   */
+  @Transactional(readOnly = true)
+  public OrderHistoryResponse findOrderHistory(Long memberId, String cursor, int size) {
+    if (size <= 0 || size > MAX_HISTORY_SIZE) {
+      throw new IllegalArgumentException("size 는 1 ~ " + MAX_HISTORY_SIZE + " 사이여야 합니다.");
+    }
+    List<OrderHistoryDto> orders = orderRepository.findOrderHistory(
+        memberId, cursor == null || cursor.isBlank() ? null : OrderHistoryCursor.decode(cursor),
+        size + 1);
+
+    boolean hasNext = orders.size() > size;
+    List<OrderHistoryDto> page = hasNext ? orders.subList(0, size) : orders;
+    Map<Long, List<OrderHistoryLineDto>> linesByOrder = orderRepository
+        .findOrderHistoryLines(page.stream().map(OrderHistoryDto::id).toList())
+        .stream()
+        .collect(Collectors.groupingBy(OrderHistoryLineDto::orderId));
+
+    List<OrderHistoryResponse.Item> items = page.stream()
+        .map(o -> new OrderHistoryResponse.Item(
+            o.id(),
+            o.orderNumber(),
+            o.orderState(),
+            o.totalAmounts(),
+            o.createdAt(),
+            linesByOrder.getOrDefault(o.id(), List.of())))
         .toList();
+
+    String nextCursor = null;
+    if (hasNext) {
+      OrderHistoryDto last = page.get(page.size() - 1);
+      nextCursor = new OrderHistoryCursor(last.createdAt(), last.id()).encode();
+    }
+    return new OrderHistoryResponse(items, nextCursor);
+  }
+
+  /**
+   * 주문 요약 read model 에서 최신순으로 조회한다. 주문/주문 항목 테이블을 읽지 않는다.
+   * 이벤트로 갱신되므로 방금 한 주문은 잠시 늦게 보일 수 있다.
+   */
+  @Transactional(readOnly = true)
+  public List<OrderSummaryResponse> findOrderSummaries(Long memberId, OrderState orderState,
+      int size) {
+    if (size <= 0 || size > MAX_HISTORY_SIZE) {
+      throw new IllegalArgumentException("size 는 1 ~ " + MAX_HISTORY_SIZE + " 사이여야 합니다.");
+    }
+    PageRequest page = PageRequest.of(0, size);
+    List<OrderSummary> summaries = orderState == null
+        ? orderSummaryRepository.findByMemberIdOrderByCreatedAtDesc(memberId, page)
+        : orderSummaryRepository.findByMemberIdAndOrderStateOrderByCreatedAtDesc(
+            memberId, orderState, page);
+    return summaries.stream().map(OrderSummaryResponse::from).toList();
+  }
+
+  //주문 번호 unique index 로 한 건만 조회한다.
+  @Transactional(readOnly = true)
+  public FindOrderResponse findByOrderNumber(String orderNumber) {
+    Order order = orderRepository.findByOrderNumber(orderNumber)
+        .orElseThrow(NoOrderException::new);
+    return toFindOrderResponse(order, orderLineRepository.findByOrderId(order.getId()));
+  }
+
+  private FindOrderResponse toFindOrderResponse(Order order, List<OrderLine> orderLines) {
+    return new FindOrderResponse(
+        order.getId(),
+        order.getOrderState(),
+        order.getShippingInfo(),
+        order.getMessage(),
+        order.getTotalAmounts(),
+        order.getOrderer().getName(),
+        order.getCreatedAt(),
+        order.getPaymentInfo(),
+        orderLines
+    );
   }
 
   @Transactional
@@ -187,6 +283,7 @@ public class OrderService {
     }
 
     findOrder.changeShippingInfo(cmd.shippingInfo());
+    outboxEventPublisher.publishAll(findOrder.getOrderEvents());
     return findOrder.getId();
   }
 }
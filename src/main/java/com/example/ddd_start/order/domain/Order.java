@@ -6,10 +6,14 @@ import static com.example.ddd_start.order.domain.value.OrderState.PREPARING;
 import static com.example.ddd_start.order.domain.value.OrderState.SHIPPED;
 
 import com.example.ddd_start.common.domain.Money;
+import com.example.ddd_start.common.infrastructure.id.PooledId;
 import com.example.ddd_start.coupon.application.model.UserCouponDto;
+import com.example.ddd_start.coupon.domain.UserCoupon;
 import com.example.ddd_start.member.domain.MemberGrade;
 import com.example.ddd_start.order.domain.event.OrderCanceledEvent;
 import com.example.ddd_start.order.domain.event.OrderEvent;
+import com.example.ddd_start.order.domain.event.OrderPlacedEvent;
+import com.example.ddd_start.order.domain.event.OrderShippedEvent;
 import com.example.ddd_start.order.domain.event.ShippingInfoChangedEvent;
 import com.example.ddd_start.order.domain.service.DiscountCalculationService;
 import com.example.ddd_start.order.domain.value.OrderState;
@@ -18,10 +22,9 @@ import com.example.ddd_start.order.domain.value.PaymentInfo;
 import com.example.ddd_start.order.domain.value.RefundState;
 import com.example.ddd_start.order.domain.value.ShippingInfo;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import javax.persistence.AttributeOverride;
 import javax.persistence.AttributeOverrides;
 import javax.persistence.Column;
@@ -30,22 +33,38 @@ import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
 import javax.persistence.Transient;
+import javax.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.annotation.Version;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 
 @Getter
 @Entity(name = "orders")
+@Table(name = "orders",
+    indexes = {
+        @Index(name = "uk_order_number", columnList = "orderNumber", unique = true),
+        @Index(name = "idx_orderer_created_at", columnList = "memberId, createdAt, id")
+    })
 @NoArgsConstructor
 @Slf4j
 public class Order {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(generator = PooledId.NAME)
+  @GenericGenerator(name = PooledId.NAME, strategy = PooledId.STRATEGY, parameters = {
+      @Parameter(name = TableGenerator.TABLE_PARAM, value = PooledId.TABLE),
+      @Parameter(name = TableGenerator.SEGMENT_COLUMN_PARAM, value = PooledId.SEGMENT_COLUMN),
+      @Parameter(name = TableGenerator.VALUE_COLUMN_PARAM, value = PooledId.VALUE_COLUMN),
+      @Parameter(name = TableGenerator.CONFIG_PREFER_SEGMENT_PER_ENTITY, value = "true"),
+      @Parameter(name = TableGenerator.OPT_PARAM, value = PooledId.OPTIMIZER),
+      @Parameter(name = TableGenerator.INCREMENT_PARAM, value = PooledId.INCREMENT_SIZE)})
   private Long id;
   private String orderNumber;
   @Enumerated(value = EnumType.STRING)
@@ -87,7 +106,7 @@ public class Order {
       String message,
       Orderer orderer,
       PaymentInfo paymentInfo) {
-    this.orderNumber = generateOrderNumber();
+    this.orderNumber = OrderNumberGenerator.next();
     this.orderState = PREPARING;
     setOrderLines(orderLines);
     setShippingInfo(shippingInfo);
@@ -104,14 +123,6 @@ public class Order {
     this.orderer = orderer;
   }
 
-  private String generateOrderNumber() {
-    LocalDateTime ldt = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
-    String orderNumber =
-        "" + ldt.getYear() + ldt.getMonthValue() + ldt.getHour() + ldt.getMinute() + String.format(
-            "%04d", ldt.toString().hashCode());
-    return orderNumber;
-  }
-
   private void setShippingInfo(ShippingInfo shippingInfo) {
     if (shippingInfo == null) {
       throw new IllegalArgumentException("no ShippingInfo");
@@ -133,6 +144,20 @@ public class Order {
         .sum());
   }
 
+  //id 가 정해진 뒤(저장 후)에 호출한다. 주문 요약 read model 을 만드는 데 필요한 값만 담는다.
+  public void registerPlacedEvent() {
+    orderEvents.add(new OrderPlacedEvent(
+        id,
+        orderNumber,
+        orderer.getMemberId(),
+        totalAmounts.getAmount(),
+        paymentAmounts != null ? paymentAmounts.getAmount() : null,
+        orderLines.size(),
+        orderLines.isEmpty() ? null : orderLines.get(0).getProduct_id(),
+        shippingInfo.getReceiver() != null ? shippingInfo.getReceiver().getName() : null,
+        createdAt));
+  }
+
   public void changeShippingInfo(ShippingInfo shippingInfo) {
     verifyNotYetShipped();
     this.shippingInfo = shippingInfo;
@@ -153,6 +178,7 @@ public class Order {
       throw new IllegalStateException("결제과 완료됬을 때만 출고가 가능합니다.");
     }
     this.orderState = SHIPPED;
+    orderEvents.add(new OrderShippedEvent(id));
   }
 
   public void changeDelivering() {
@@ -182,8 +208,14 @@ public class Order {
     this.paymentAmounts = totalAmounts.subtract(discountAmounts);
   }
 
+  public void calculateAmounts(DiscountCalculationService disCalSvc, List<UserCoupon> userCoupons) {
+    Money totalAmounts = getTotalAmounts();
+    Money discountAmounts = disCalSvc.calculateDiscountAmounts(orderLines, userCoupons);
+    this.paymentAmounts = totalAmounts.subtract(discountAmounts);
+  }
+
   public boolean matchVersion(Integer version) {
-    return this.version.equals(version);
+    return Objects.equals(this.version, version);
   }
 
   public void startRefund() {
@@ -1,19 +1,25 @@
 package com.example.ddd_start.order.domain;
 
 import com.example.ddd_start.common.domain.Money;
+import com.example.ddd_start.common.infrastructure.id.PooledId;
 import com.example.ddd_start.product.domain.Product;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import javax.persistence.AttributeOverride;
 import javax.persistence.Column;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 
 @Entity
 @Getter
@@ -21,7 +27,14 @@ import lombok.NoArgsConstructor;
 public class OrderLine {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(generator = PooledId.NAME)
+  @GenericGenerator(name = PooledId.NAME, strategy = PooledId.STRATEGY, parameters = {
+      @Parameter(name = TableGenerator.TABLE_PARAM, value = PooledId.TABLE),
+      @Parameter(name = TableGenerator.SEGMENT_COLUMN_PARAM, value = PooledId.SEGMENT_COLUMN),
+      @Parameter(name = TableGenerator.VALUE_COLUMN_PARAM, value = PooledId.VALUE_COLUMN),
+      @Parameter(name = TableGenerator.CONFIG_PREFER_SEGMENT_PER_ENTITY, value = "true"),
+      @Parameter(name = TableGenerator.OPT_PARAM, value = PooledId.OPTIMIZER),
+      @Parameter(name = TableGenerator.INCREMENT_PARAM, value = PooledId.INCREMENT_SIZE)})
   private Long id;
   private Long product_id;
   private Long orderId;
@@ -48,6 +61,22 @@ public class OrderLine {
     this.amount = calculateAmount();
   }
 
+  //상품 엔티티 없이 가격 스냅샷으로 주문할 때 사용한다.
+  public OrderLine(Long productId, Integer price, Integer quantity) {
+    this.product_id = productId;
+    this.quantity = quantity;
+    this.price = new Money(price);
+    this.amount = calculateAmount();
+  }
+
+  //재고 예약/해제용. 같은 상품이 여러 줄이면 수량을 합친다.
+  public static Map<Long, Integer> quantitiesByProduct(List<OrderLine> orderLines) {
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
+    orderLines.forEach(orderLine ->
+        quantities.merge(orderLine.product_id, orderLine.quantity, Integer::sum));
+    return quantities;
+  }
+
   private Money calculateAmount() {
     return this.price.multiply(quantity);
   }
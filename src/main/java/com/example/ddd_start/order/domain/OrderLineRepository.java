@@ -2,6 +2,7 @@ package com.example.ddd_start.order.domain;
 
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,4 +13,8 @@ public interface OrderLineRepository extends JpaRepository<OrderLine, Long> {
 
   @Query("select ol from OrderLine ol where ol.orderId in :orderIds")
   List<OrderLine> findByOrderIdIn(@Param("orderIds") List<Long> orderIds);
+
+  @Modifying
+  @Query("delete from OrderLine ol where ol.orderId in :orderIds")
+  int deleteByOrderIdIn(@Param("orderIds") List<Long> orderIds);
 }
@@ -0,0 +1,88 @@
+package com.example.ddd_start.order.domain;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순으로 정렬되는 주문 번호 생성기. (snowflake 방식)
+ * 41 bit 밀리초 타임스탬프 + 10 bit 노드 id + 12 bit 시퀀스를 하나의 long 으로 만들고,
+ * 13자리 Crockford base32 로 인코딩한다. 자릿수가 고정이라 문자열 정렬과 생성 순서가 같다.
+ *
+ * Order 는 엔티티라 주입을 받을 수 없으므로 정적 인스턴스를 사용하며, 노드 id 는 애플리케이션 시작 시 설정한다.
+ */
+public final class OrderNumberGenerator {
+
+  static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+  static final int NODE_BITS = 10;
+  static final int SEQUENCE_BITS = 12;
+  public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+  private static final int LENGTH = 13;
+  private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+  private static volatile OrderNumberGenerator instance = new OrderNumberGenerator(0);
+
+  private final long nodeId;
+  private final LongSupplier clock;
+  //(타임스탬프 << SEQUENCE_BITS) | 시퀀스. CAS 로만 갱신한다.
+  private final AtomicLong lastState = new AtomicLong();
+
+  OrderNumberGenerator(int nodeId) {
+    this(nodeId, System::currentTimeMillis);
+  }
+
+  OrderNumberGenerator(int nodeId, LongSupplier clock) {
+    if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+      throw new IllegalArgumentException("node id 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다.");
+    }
+    this.nodeId = nodeId;
+    this.clock = clock;
+  }
+
+  public static void configure(int nodeId) {
+    instance = new OrderNumberGenerator(nodeId);
+  }
+
+  public static String next() {
+    return instance.nextOrderNumber();
+  }
+
+  String nextOrderNumber() {
+    return encode(nextId());
+  }
+
+  long nextId() {
+    while (true) {
+      long last = lastState.get();
+      long lastTimestamp = last >>> SEQUENCE_BITS;
+      //시계가 뒤로 가도 마지막 타임스탬프를 계속 사용해 순서와 유일성을 지킨다.
+      long timestamp = Math.max(clock.getAsLong() - EPOCH, lastTimestamp);
+      long next;
+      if (timestamp == lastTimestamp) {
+        long sequence = (last & SEQUENCE_MASK) + 1;
+        //같은 밀리초에 시퀀스를 다 쓰면 다음 밀리초 값을 미리 사용한다.
+        next = sequence > SEQUENCE_MASK ? (timestamp + 1) << SEQUENCE_BITS : last + 1;
+      } else {
+        next = timestamp << SEQUENCE_BITS;
+      }
+
+      if (lastState.compareAndSet(last, next)) {
+        long nextTimestamp = next >>> SEQUENCE_BITS;
+        return (nextTimestamp << (NODE_BITS + SEQUENCE_BITS))
+            | (nodeId << SEQUENCE_BITS)
+            | (next & SEQUENCE_MASK);
+      }
+    }
+  }
+
+  //중간 문자열 없이 char 배열에 바로 채운다.
+  static String encode(long id) {
+    char[] chars = new char[LENGTH];
+    for (int i = LENGTH - 1; i >= 0; i--) {
+      chars[i] = ALPHABET[(int) (id & 31)];
+      id >>>= 5;
+    }
+    return new String(chars);
+  }
+}
@@ -46,6 +46,8 @@ public interface OrderRepository extends CrudRepository<Order, Long>, OrderRepos
   @Query("select o from orders o where o.id = :id")
   Optional<Order> findByIdOptimistic(Long id);
 
+  Optional<Order> findByOrderNumber(String orderNumber);
+
   @Query("select o from orders o where o.orderer.memberId = :memberId")
   List<Order> findOrderByMemberId(@Param("memberId") Long memberId);
 
@@ -1,7 +1,12 @@
 package com.example.ddd_start.order.domain;
 
 import com.example.ddd_start.order.domain.dto.OrderDto;
+import com.example.ddd_start.order.domain.dto.OrderExportRow;
+import com.example.ddd_start.order.domain.dto.OrderHistoryDto;
+import com.example.ddd_start.order.domain.dto.OrderHistoryLineDto;
+import com.example.ddd_start.order.domain.value.OrderHistoryCursor;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface OrderRepositoryCustom {
 
@@ -10,4 +15,11 @@ public interface OrderRepositoryCustom {
   List<OrderDto> searchMyStateOrders(OrderSearchCondition orderSearchCondition);
 
   List<OrderDto> search();
+
+  List<OrderHistoryDto> findOrderHistory(Long memberId, OrderHistoryCursor cursor, int limit);
+
+  List<OrderHistoryLineDto> findOrderHistoryLines(List<Long> orderIds);
+
+  //트랜잭션 안에서 소비하고 반드시 닫아야 한다.
+  Stream<OrderExportRow> streamForExport(OrderSearchCondition orderSearchCondition, int fetchSize);
 }
@@ -1,15 +1,22 @@
 package com.example.ddd_start.order.domain;
 
 import static com.example.ddd_start.order.domain.QOrder.order;
+import static com.example.ddd_start.order.domain.QOrderLine.orderLine;
 
 import com.example.ddd_start.order.domain.dto.OrderDto;
+import com.example.ddd_start.order.domain.dto.OrderExportRow;
+import com.example.ddd_start.order.domain.dto.OrderHistoryDto;
+import com.example.ddd_start.order.domain.dto.OrderHistoryLineDto;
+import com.example.ddd_start.order.domain.value.OrderHistoryCursor;
 import com.example.ddd_start.order.domain.value.OrderState;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
+import java.util.stream.Stream;
 import javax.persistence.EntityManager;
+import org.hibernate.annotations.QueryHints;
 
 public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
 
@@ -79,6 +86,80 @@ public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
         .fetch();
   }
 
+  //(createdAt, id) 기준 seek. offset 없이 인덱스에서 바로 다음 위치를 찾는다.
+  @Override
+  public List<OrderHistoryDto> findOrderHistory(Long memberId, OrderHistoryCursor cursor,
+      int limit) {
+    return queryFactory
+        .select(Projections.constructor(OrderHistoryDto.class,
+            order.id,
+            order.orderNumber,
+            order.orderState,
+            order.totalAmounts,
+            order.createdAt
+        ))
+        .from(order)
+        .where(ordererIdEq(memberId), before(cursor))
+        .orderBy(order.createdAt.desc(), order.id.desc())
+        .limit(limit)
+        .fetch();
+  }
+
+  @Override
+  public List<OrderHistoryLineDto> findOrderHistoryLines(List<Long> orderIds) {
+    if (orderIds.isEmpty()) {
+      return List.of();
+    }
+    return queryFactory
+        .select(Projections.constructor(OrderHistoryLineDto.class,
+            orderLine.orderId,
+            orderLine.product_id,
+            orderLine.price.amount,
+            orderLine.quantity
+        ))
+        .from(orderLine)
+        .where(orderLine.orderId.in(orderIds))
+        .orderBy(orderLine.orderId.asc(), orderLine.id.asc())
+        .fetch();
+  }
+
+  /**
+   * 전체 주문을 forward-only 커서로 읽는다. fetchSize 만큼씩 가져오고(MySQL 은 Integer.MIN_VALUE 면 한 행씩
+   * streaming), DTO projection 이라
+   * 영속성 컨텍스트에 쌓이지 않으므로 메모리 사용량이 주문 수와 상관없다.
+   */
+  @Override
+  public Stream<OrderExportRow> streamForExport(OrderSearchCondition orderSearchCondition,
+      int fetchSize) {
+    return queryFactory
+        .select(Projections.constructor(OrderExportRow.class,
+            order.id,
+            order.orderNumber,
+            order.orderState,
+            order.orderer.memberId,
+            order.orderer.name,
+            order.shippingInfo.receiver.name,
+            order.totalAmounts.amount,
+            order.paymentAmounts.amount,
+            order.createdAt
+        ))
+        .from(order)
+        .where(ordererIdEq(orderSearchCondition.getOrdererId()),
+            orderStateEq(orderSearchCondition.getOrderState()))
+        .orderBy(order.id.asc())
+        .setHint(QueryHints.FETCH_SIZE, fetchSize)
+        .setHint(QueryHints.READ_ONLY, true)
+        .stream();
+  }
+
+  private BooleanExpression before(OrderHistoryCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    return order.createdAt.lt(cursor.createdAt())
+        .or(order.createdAt.eq(cursor.createdAt()).and(order.id.lt(cursor.id())));
+  }
+
   private BooleanExpression ordererIdEq(Long ordererId) {
     return ordererId == null ? null : order.orderer.memberId.eq(ordererId);
   }
@@ -0,0 +1,41 @@
+package com.example.ddd_start.order.domain;
+
+import com.example.ddd_start.order.domain.value.OrderState;
+import java.time.Instant;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 목록 조회용 read model. 주문 이벤트로만 갱신되며 주문 트랜잭션과는 따로 움직인다.
+ * lastEventAt 보다 오래된 이벤트는 상태를 되돌리지 못한다.
+ */
+@Entity
+@Table(name = "order_summary", indexes = {
+    @Index(name = "idx_summary_member_created_at", columnList = "memberId, createdAt"),
+    @Index(name = "idx_summary_member_state_created_at",
+        columnList = "memberId, orderState, createdAt")
+})
+@Getter
+@NoArgsConstructor
+public class OrderSummary {
+
+  @Id
+  private Long orderId;
+  private String orderNumber;
+  private Long memberId;
+  @Enumerated(value = EnumType.STRING)
+  private OrderState orderState;
+  private Integer totalAmounts;
+  private Integer paymentAmounts;
+  private Integer lineCount;
+  private String firstProductTitle;
+  private String receiverName;
+  private Instant createdAt;
+  private Instant lastEventAt;
+}
@@ -0,0 +1,14 @@
+package com.example.ddd_start.order.domain;
+
+import com.example.ddd_start.order.domain.value.OrderState;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+
+  List<OrderSummary> findByMemberIdOrderByCreatedAtDesc(Long memberId, Pageable pageable);
+
+  List<OrderSummary> findByMemberIdAndOrderStateOrderByCreatedAtDesc(Long memberId,
+      OrderState orderState, Pageable pageable);
+}
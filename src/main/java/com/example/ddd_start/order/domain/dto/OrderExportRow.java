@@ -0,0 +1,17 @@
+package com.example.ddd_start.order.domain.dto;
+
+import com.example.ddd_start.order.domain.value.OrderState;
+import java.time.Instant;
+
+public record OrderExportRow(
+    Long orderId,
+    String orderNumber,
+    OrderState orderState,
+    Long memberId,
+    String ordererName,
+    String receiverName,
+    Integer totalAmounts,
+    Integer paymentAmounts,
+    Instant createdAt) {
+
+}
@@ -0,0 +1,10 @@
+package com.example.ddd_start.order.domain.dto;
+
+import com.example.ddd_start.common.domain.Money;
+import com.example.ddd_start.order.domain.value.OrderState;
+import java.time.Instant;
+
+public record OrderHistoryDto(Long id, String orderNumber, OrderState orderState,
+                              Money totalAmounts, Instant createdAt) {
+
+}
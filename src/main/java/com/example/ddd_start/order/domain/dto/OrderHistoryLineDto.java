@@ -0,0 +1,5 @@
+package com.example.ddd_start.order.domain.dto;
+
+public record OrderHistoryLineDto(Long orderId, Long productId, Integer price, Integer quantity) {
+
+}
@@ -0,0 +1,23 @@
+package com.example.ddd_start.order.domain.event;
+
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+@NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
+public class OrderPlacedEvent extends OrderEvent {
+
+  private final Long orderId;
+  private final String orderNumber;
+  private final Long memberId;
+  private final Integer totalAmounts;
+  private final Integer paymentAmounts;
+  private final Integer lineCount;
+  private final Long firstProductId;
+  private final String receiverName;
+  private final Instant createdAt;
+}
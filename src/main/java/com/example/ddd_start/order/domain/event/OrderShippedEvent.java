@@ -0,0 +1,14 @@
+package com.example.ddd_start.order.domain.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+@NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
+public class OrderShippedEvent extends OrderEvent {
+
+  private final Long orderId;
+}
@@ -2,10 +2,13 @@ package com.example.ddd_start.order.domain.event;
 
 import com.example.ddd_start.order.domain.value.ShippingInfo;
 import java.time.Instant;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
+@NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
 @Getter
 public class ShippingInfoChangedEvent extends OrderEvent {
 
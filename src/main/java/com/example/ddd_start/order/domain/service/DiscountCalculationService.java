@@ -29,14 +29,20 @@ public class DiscountCalculationService {
                 .orElseThrow(() -> new RuntimeException("Coupon not found")))
         .toList();
 
+    Money discountedAmount = calculateDiscountAmounts(orderLines, userCoupons);
+    userCouponRepository.saveAll(userCoupons);
+
+    return discountedAmount;
+  }
+
+  //쿠폰을 미리 읽어 둔 경우 사용한다. 쿠폰 사용 표시만 하고 저장은 호출하는 쪽에서 한다.
+  public Money calculateDiscountAmounts(List<OrderLine> orderLines, List<UserCoupon> userCoupons) {
     Money discountedAmount = orderLines.stream()
         .map(orderLine -> calculateDiscount(orderLine, userCoupons))
         .reduce(new Money(0), (v1, v2) -> v1.add(v2));
     userCoupons
         .forEach(UserCoupon::useCoupon);
 
-    userCouponRepository.saveAll(userCoupons);
-
     return discountedAmount;
   }
 
@@ -0,0 +1,33 @@
+package com.example.ddd_start.order.domain.value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 이력 keyset 페이지네이션 위치. 마지막으로 내려준 주문의 (createdAt, id) 이다.
+ * 클라이언트에는 내용을 알 수 없는 문자열로 내려준다.
+ */
+public record OrderHistoryCursor(Instant createdAt, Long id) {
+
+  private static final String DELIMITER = "_";
+
+  public String encode() {
+    String raw = createdAt.toString() + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static OrderHistoryCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int delimiter = raw.lastIndexOf(DELIMITER);
+      return new OrderHistoryCursor(
+          Instant.parse(raw.substring(0, delimiter)),
+          Long.parseLong(raw.substring(delimiter + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("잘못된 cursor 입니다.", e);
+    }
+  }
+}
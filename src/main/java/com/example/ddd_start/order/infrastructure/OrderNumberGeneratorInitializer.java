@@ -0,0 +1,43 @@
+package com.example.ddd_start.order.infrastructure;
+
+import com.example.ddd_start.order.domain.OrderNumberGenerator;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 번호 생성기의 노드 id 를 설정한다. 인스턴스마다 다른 값을 order.number.node-id 로 지정해야 한다.
+ * 지정하지 않으면 호스트 이름으로 만들지만 인스턴스끼리 겹칠 수 있다.
+ */
+@Slf4j
+@Component
+public class OrderNumberGeneratorInitializer {
+
+  private final int nodeId;
+
+  public OrderNumberGeneratorInitializer(@Value("${order.number.node-id:-1}") int nodeId) {
+    this.nodeId = nodeId;
+  }
+
+  @PostConstruct
+  public void init() {
+    int resolvedNodeId = nodeId >= 0 ? nodeId : nodeIdFromHostName();
+    OrderNumberGenerator.configure(resolvedNodeId);
+    log.info("주문 번호 생성기 node id: {}", resolvedNodeId);
+  }
+
+  private int nodeIdFromHostName() {
+    try {
+      int nodeId = (InetAddress.getLocalHost().getHostName().hashCode() & Integer.MAX_VALUE)
+          % (OrderNumberGenerator.MAX_NODE_ID + 1);
+      log.warn("order.number.node-id 가 없어 호스트 이름으로 node id 를 정했습니다. 인스턴스 간 중복에 주의하세요.");
+      return nodeId;
+    } catch (UnknownHostException e) {
+      log.warn("호스트 이름을 알 수 없어 node id 0 을 사용합니다.");
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.example.ddd_start.order.infrastructure;
+
+import com.example.ddd_start.order.domain.value.OrderState;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 일괄 출고용 JDBC 쿼리. 주문을 읽지 않고 version 과 상태를 조건으로 바로 update 한다.
+ * JPA 의 낙관적 잠금과 같은 version 컬럼을 올리므로 엔티티로 읽어 둔 주문의 늦은 변경은 실패한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderShippingJdbcRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+  //요청 순서대로 갱신된 행 수를 돌려준다. 1 이 아니면 조건이 맞지 않은 것이다.
+  public int[] markShipped(List<ShippingTarget> targets) {
+    return jdbcTemplate.batchUpdate(
+        "update orders set order_state = ?, version = version + 1 "
+            + "where id = ? and version = ? and order_state = ?",
+        targets.stream()
+            .map(target -> new Object[]{OrderState.SHIPPED.name(), target.orderId(),
+                target.version(), OrderState.PREPARING.name()})
+            .toList());
+  }
+
+  public List<ShippingState> findStates(Collection<Long> orderIds) {
+    return namedParameterJdbcTemplate.query(
+        "select id, order_state, version from orders where id in (:ids)",
+        new MapSqlParameterSource("ids", orderIds),
+        (rs, rowNum) -> {
+          String orderState = rs.getString("order_state");
+          return new ShippingState(
+              rs.getLong("id"),
+              orderState != null ? OrderState.valueOf(orderState) : null,
+              rs.getInt("version"));
+        });
+  }
+
+  //version 이 없던 시절의 주문을 0 으로 채운다. null 이면 JPA 의 version 비교가 항상 실패한다.
+  public int initializeMissingVersions() {
+    return jdbcTemplate.update("update orders set version = 0 where version is null");
+  }
+
+  public record ShippingTarget(Long orderId, Integer version) {
+
+  }
+
+  public record ShippingState(Long orderId, OrderState orderState, Integer version) {
+
+  }
+}
@@ -0,0 +1,117 @@
+package com.example.ddd_start.order.infrastructure;
+
+import com.example.ddd_start.order.domain.event.OrderPlacedEvent;
+import com.example.ddd_start.order.domain.value.OrderState;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 주문 요약 read model 을 batch upsert 한다. 이벤트가 늦게 도착하거나 다시 전달돼도 결과가 같도록
+ * 상태와 배송지는 last_event_at 보다 새로운 이벤트일 때만 바꾼다.
+ * 생성 이벤트보다 변경 이벤트가 먼저 와도 행을 먼저 만들어 두고, 생성 이벤트가 나머지 값을 채운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderSummaryJdbcRepository {
+
+  private static final String NEWER = "values(last_event_at) >= last_event_at";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void savePlaced(List<OrderPlacedEvent> events, Map<Long, String> productTitles) {
+    jdbcTemplate.batchUpdate(
+        "insert into order_summary (order_id, order_number, member_id, order_state, total_amounts, "
+            + "payment_amounts, line_count, first_product_title, receiver_name, created_at, "
+            + "last_event_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "on duplicate key update order_number = values(order_number), "
+            + "member_id = values(member_id), total_amounts = values(total_amounts), "
+            + "payment_amounts = values(payment_amounts), line_count = values(line_count), "
+            + "first_product_title = values(first_product_title), "
+            + "created_at = values(created_at), "
+            + "receiver_name = case when receiver_name is null or " + NEWER
+            + " then values(receiver_name) else receiver_name end, "
+            + "order_state = case when " + NEWER + " then values(order_state) else order_state end, "
+            + "last_event_at = greatest(last_event_at, values(last_event_at))",
+        events, events.size(), (ps, event) -> {
+          ps.setLong(1, event.getOrderId());
+          ps.setString(2, event.getOrderNumber());
+          ps.setObject(3, event.getMemberId());
+          ps.setString(4, OrderState.PREPARING.name());
+          ps.setObject(5, event.getTotalAmounts());
+          ps.setObject(6, event.getPaymentAmounts());
+          ps.setObject(7, event.getLineCount());
+          ps.setString(8, productTitles.get(event.getFirstProductId()));
+          ps.setString(9, event.getReceiverName());
+          ps.setTimestamp(10, Timestamp.from(event.getCreatedAt()));
+          ps.setTimestamp(11, Timestamp.from(event.getTimeStamp()));
+        });
+  }
+
+  public void saveStates(List<StateChange> changes) {
+    jdbcTemplate.batchUpdate(
+        "insert into order_summary (order_id, order_state, last_event_at) values (?, ?, ?) "
+            + "on duplicate key update "
+            + "order_state = case when " + NEWER + " then values(order_state) else order_state end, "
+            + "last_event_at = greatest(last_event_at, values(last_event_at))",
+        changes, changes.size(), (ps, change) -> {
+          ps.setLong(1, change.orderId());
+          ps.setString(2, change.orderState().name());
+          ps.setTimestamp(3, Timestamp.from(change.occurredAt()));
+        });
+  }
+
+  public void saveReceivers(List<ReceiverChange> changes) {
+    jdbcTemplate.batchUpdate(
+        "insert into order_summary (order_id, receiver_name, last_event_at) values (?, ?, ?) "
+            + "on duplicate key update "
+            + "receiver_name = case when " + NEWER
+            + " then values(receiver_name) else receiver_name end, "
+            + "last_event_at = greatest(last_event_at, values(last_event_at))",
+        changes, changes.size(), (ps, change) -> {
+          ps.setLong(1, change.orderId());
+          ps.setString(2, change.receiverName());
+          ps.setTimestamp(3, Timestamp.from(change.occurredAt()));
+        });
+  }
+
+  /**
+   * 요약 테이블이 생기기 전에 접수된 주문처럼 요약 행이 없는 주문을 orders/order_line 에서 채운다.
+   * last_event_at 을 지금으로 두므로 이미 반영된 예전 이벤트가 다시 와도 덮어쓰지 않는다.
+   * id 범위 (fromId, toId] 만 처리하며 projector 와 겹치면 먼저 들어간 행을 둔다.
+   */
+  public int backfill(long fromId, long toId, Instant now) {
+    return jdbcTemplate.update(
+        "insert ignore into order_summary (order_id, order_number, member_id, order_state, "
+            + "total_amounts, payment_amounts, line_count, first_product_title, receiver_name, "
+            + "created_at, last_event_at) "
+            + "select o.id, o.order_number, o.member_id, o.order_state, o.total_amounts, "
+            + "o.payment_amounts, "
+            + "(select count(*) from order_line ol where ol.order_id = o.id), "
+            + "(select p.title from order_line ol join product p on p.id = ol.product_id "
+            + "where ol.order_id = o.id order by ol.id limit 1), "
+            + "o.receiver_name, o.created_at, ? "
+            + "from orders o where o.id > ? and o.id <= ? "
+            + "and not exists (select 1 from order_summary s where s.order_id = o.id)",
+        Timestamp.from(now), fromId, toId);
+  }
+
+  //afterId 다음 chunkSize 건의 마지막 주문 id. 더 없으면 null.
+  public Long findOrderIdBoundary(long afterId, int chunkSize) {
+    return jdbcTemplate.queryForObject(
+        "select max(id) from (select id from orders where id > ? order by id limit ?) t",
+        Long.class, afterId, chunkSize);
+  }
+
+  public record StateChange(Long orderId, OrderState orderState, Instant occurredAt) {
+
+  }
+
+  public record ReceiverChange(Long orderId, String receiverName, Instant occurredAt) {
+
+  }
+}
@@ -0,0 +1,28 @@
+package com.example.ddd_start.order.infrastructure;
+
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+/**
+ * 낙관적 잠금을 켜기 전에 저장된 주문의 version 을 0 으로 채운다.
+ * 스키마가 갱신된 뒤, 요청을 받기 전에 돌도록 entityManagerFactory 다음에 초기화한다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class OrderVersionInitializer {
+
+  private final OrderShippingJdbcRepository orderShippingJdbcRepository;
+
+  @PostConstruct
+  public void init() {
+    int initialized = orderShippingJdbcRepository.initializeMissingVersions();
+    if (initialized > 0) {
+      log.info("version 이 없던 주문 {}건을 0 으로 채웠습니다.", initialized);
+    }
+  }
+}
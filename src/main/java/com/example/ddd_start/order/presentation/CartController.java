@@ -1,5 +1,6 @@
 package com.example.ddd_start.order.presentation;
 
+import com.example.ddd_start.auth.model.AuthenticatedMember;
 import com.example.ddd_start.order.application.model.CartDto;
 import com.example.ddd_start.order.application.model.CreateCartCommand;
 import com.example.ddd_start.order.application.service.CartService;
@@ -27,16 +28,16 @@ public class CartController {
   private final CartService cartService;
 
   @GetMapping("/carts")
-  public ResponseEntity<List<CartDto>> printAllCarts(@RequestParam Long memberId) {
-    List<CartDto> cartDtos = cartService.printAllCarts(memberId);
+  public ResponseEntity<List<CartDto>> printAllCarts(AuthenticatedMember member) {
+    List<CartDto> cartDtos = cartService.printAllCarts(member.memberId());
     return ResponseEntity
         .ok().body(cartDtos);
   }
 
   @PostMapping("/carts")
-  public ResponseEntity addCart(@RequestBody AddCartRequest req) {
+  public ResponseEntity addCart(AuthenticatedMember member, @RequestBody AddCartRequest req) {
     Long save = cartService.save(
-        new CreateCartCommand(req.memberId(), req.productId(), req.quantity()));
+        new CreateCartCommand(member.memberId(), req.productId(), req.quantity()));
 
     return ResponseEntity
         .ok(new AddCartResponse(save, "장바구니에 정상적으로 추가되었습니다."));
@@ -61,8 +62,8 @@ public class CartController {
   }
 
   @DeleteMapping("/carts-all")
-  public ResponseEntity deleteAllCarts(@RequestParam Long memberId) {
-    cartService.deleteAll(memberId);
+  public ResponseEntity deleteAllCarts(AuthenticatedMember member) {
+    cartService.deleteAll(member.memberId());
 
     String message = "정상적으로 삭제되었습니다.";
     return new ResponseEntity(message, HttpStatus.ACCEPTED);
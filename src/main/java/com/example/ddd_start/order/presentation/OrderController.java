@@ -1,51 +1,124 @@
 package com.example.ddd_start.order.presentation;
 
+import com.example.ddd_start.auth.model.AuthenticatedMember;
 import com.example.ddd_start.common.domain.exception.NoMemberFoundException;
+import com.example.ddd_start.common.domain.exception.NoOrderException;
+import com.example.ddd_start.common.domain.exception.OutOfStockException;
 import com.example.ddd_start.common.domain.exception.ValidationErrorException;
 import com.example.ddd_start.coupon.Exception.CouponAlreadyUsedException;
+import com.example.ddd_start.order.application.model.BulkPlaceOrderResult;
 import com.example.ddd_start.order.application.model.ChangeOrderShippingInfoCommand;
 import com.example.ddd_start.order.application.model.FindOrderResponse;
+import com.example.ddd_start.order.application.model.OrderExportFormat;
 import com.example.ddd_start.order.application.model.PlaceOrderCommand;
 import com.example.ddd_start.order.application.model.UpdateOrderCommand;
+import com.example.ddd_start.order.application.service.BulkOrderService;
+import com.example.ddd_start.order.application.service.BulkShippingService;
+import com.example.ddd_start.order.application.service.OrderExportService;
 import com.example.ddd_start.order.application.service.OrderService;
+import com.example.ddd_start.order.domain.OrderSearchCondition;
+import com.example.ddd_start.order.domain.value.OrderState;
+import com.example.ddd_start.order.domain.value.Orderer;
+import com.example.ddd_start.order.presentation.model.BulkPlaceOrderRequest;
+import com.example.ddd_start.order.presentation.model.BulkPlaceOrderResponse;
+import com.example.ddd_start.order.presentation.model.BulkShippingRequest;
+import com.example.ddd_start.order.presentation.model.BulkShippingResponse;
 import com.example.ddd_start.order.presentation.model.PlaceOrderRequest;
 import com.example.ddd_start.order.presentation.model.PlaceOrderResponse;
 import com.example.ddd_start.order.presentation.model.UpdateOrderRequest;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 public class OrderController {
 
   private final OrderService orderService;
+  private final BulkOrderService bulkOrderService;
+  private final OrderExportService orderExportService;
+  private final BulkShippingService bulkShippingService;
 
   @GetMapping("/orders/my-order")
-  public ResponseEntity findMyOrder(@RequestParam Long memberId) {
-    List<FindOrderResponse> myOrder = orderService.findMyOrder(memberId);
+  public ResponseEntity findMyOrder(AuthenticatedMember member) {
+    List<FindOrderResponse> myOrder = orderService.findMyOrder(member.memberId());
     return ResponseEntity.ok(myOrder);
   }
 
+  //최신순 커서 페이지네이션. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘긴다.
+  @GetMapping("/orders/history")
+  public ResponseEntity findOrderHistory(AuthenticatedMember member,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", defaultValue = "20") int size) {
+    try {
+      return ResponseEntity.ok(orderService.findOrderHistory(member.memberId(), cursor, size));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
+  //주문 목록 화면용 요약. state 를 주면 해당 상태의 주문만 조회한다.
+  @GetMapping("/orders/summaries")
+  public ResponseEntity findOrderSummaries(AuthenticatedMember member,
+      @RequestParam(value = "state", required = false) OrderState state,
+      @RequestParam(value = "size", defaultValue = "20") int size) {
+    try {
+      return ResponseEntity.ok(orderService.findOrderSummaries(member.memberId(), state, size));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
+  //고객 문의 대응용 주문 번호 조회. 관리자만 호출할 수 있다.
+  @GetMapping("/orders/number/{orderNumber}")
+  public ResponseEntity findByOrderNumber(@PathVariable("orderNumber") String orderNumber) {
+    try {
+      return ResponseEntity.ok(orderService.findByOrderNumber(orderNumber));
+    } catch (NoOrderException e) {
+      return ResponseEntity.notFound().build();
+    }
+  }
+
+  //관리자용 전체 주문 내보내기. 결과를 모으지 않고 커서에서 읽는 대로 응답에 쓴다.
+  @GetMapping("/admin/orders/export")
+  public ResponseEntity<StreamingResponseBody> exportOrders(
+      @RequestParam(value = "format", defaultValue = "CSV") OrderExportFormat format,
+      @RequestParam(value = "ordererId", required = false) Long ordererId,
+      @RequestParam(value = "state", required = false) OrderState state) {
+    OrderSearchCondition condition = new OrderSearchCondition(ordererId, state);
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(format.getContentType()))
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"orders." + format.getExtension() + "\"")
+        .body(outputStream -> orderExportService.export(condition, format, outputStream));
+  }
+
   @PostMapping("/orders/place-order")
-  public ResponseEntity order(@RequestBody PlaceOrderRequest req, BindingResult bindingResult) {
+  public ResponseEntity order(AuthenticatedMember member, @RequestBody PlaceOrderRequest req,
+      BindingResult bindingResult) {
     try {
       Long orderId = orderService.placeOrderV2(
           new PlaceOrderCommand(
               req.orderLines(),
               req.shippingInfo(),
               req.message(),
-              req.orderer(),
+              toOrderer(member, req.orderer()),
               req.paymentInfo(),
-              req.coupons()
+              req.coupons(),
+              member.memberGrade()
           )
       );
       return ResponseEntity
@@ -64,6 +137,42 @@ public class OrderController {
       return ResponseEntity.badRequest().body("회원 정보를 찾을 수 없습니다.");
     } catch (CouponAlreadyUsedException e) {
       return ResponseEntity.badRequest().body("이미 사용한 쿠폰입니다.");
+    } catch (OutOfStockException e) {
+      return ResponseEntity.status(HttpStatus.CONFLICT).body("재고가 부족합니다.");
+    }
+  }
+
+  //B2B 일괄 주문, 장애 후 재처리용. 관리자만 호출할 수 있고 주문자는 요청 본문을 그대로 사용한다.
+  @PostMapping("/orders/bulk")
+  public ResponseEntity bulkOrder(@RequestBody BulkPlaceOrderRequest req) {
+    try {
+      List<BulkPlaceOrderResult> results = bulkOrderService.placeOrders(
+          req.orders() == null ? null : req.orders().stream()
+              .map(order -> new PlaceOrderCommand(
+                  order.orderLines(),
+                  order.shippingInfo(),
+                  order.message(),
+                  order.orderer(),
+                  order.paymentInfo(),
+                  order.coupons(),
+                  null
+              ))
+              .toList()
+      );
+      return ResponseEntity.ok(BulkPlaceOrderResponse.of(results));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
+  //창고 출고 웨이브용. 관리자만 호출할 수 있고 주문별로 결과를 돌려준다.
+  @PostMapping("/orders/shipping/bulk")
+  public ResponseEntity bulkStartShipping(@RequestBody BulkShippingRequest req) {
+    try {
+      return ResponseEntity.ok(
+          BulkShippingResponse.of(bulkShippingService.startShipping(req.orders())));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
     }
   }
 
@@ -102,4 +211,16 @@ public class OrderController {
         "주문이 정상적으로 취소되었습니다."
     );
   }
+
+  //주문자 회원 id 는 요청 본문이 아닌 인증 정보에서 가져온다.
+  private Orderer toOrderer(AuthenticatedMember member, Orderer orderer) {
+    if (orderer == null) {
+      return null;
+    }
+    return new Orderer(
+        member.memberId(),
+        orderer.getName(),
+        orderer.getPhoneNumber(),
+        orderer.getEmail());
+  }
 }
@@ -1,5 +1,5 @@
 package com.example.ddd_start.order.presentation.model;
 
-public record AddCartRequest(Long memberId, Long productId, Integer quantity) {
+public record AddCartRequest(Long productId, Integer quantity) {
 
 }
@@ -0,0 +1,8 @@
+package com.example.ddd_start.order.presentation.model;
+
+import java.util.List;
+
+//주문자 회원 id 는 각 주문의 orderer.memberId 를 그대로 사용한다.
+public record BulkPlaceOrderRequest(List<PlaceOrderRequest> orders) {
+
+}
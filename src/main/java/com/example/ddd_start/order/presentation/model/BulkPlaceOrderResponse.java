@@ -0,0 +1,13 @@
+package com.example.ddd_start.order.presentation.model;
+
+import com.example.ddd_start.order.application.model.BulkPlaceOrderResult;
+import java.util.List;
+
+public record BulkPlaceOrderResponse(long placedCount, long rejectedCount,
+                                     List<BulkPlaceOrderResult> results) {
+
+  public static BulkPlaceOrderResponse of(List<BulkPlaceOrderResult> results) {
+    long placedCount = results.stream().filter(BulkPlaceOrderResult::placed).count();
+    return new BulkPlaceOrderResponse(placedCount, results.size() - placedCount, results);
+  }
+}
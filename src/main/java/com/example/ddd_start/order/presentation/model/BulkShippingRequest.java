@@ -0,0 +1,9 @@
+package com.example.ddd_start.order.presentation.model;
+
+import com.example.ddd_start.order.application.model.BulkShippingCommand;
+import java.util.List;
+
+//조회 시점의 version 을 함께 보내야 한다. 그 사이 바뀐 주문은 출고되지 않는다.
+public record BulkShippingRequest(List<BulkShippingCommand> orders) {
+
+}
@@ -0,0 +1,13 @@
+package com.example.ddd_start.order.presentation.model;
+
+import com.example.ddd_start.order.application.model.BulkShippingResult;
+import java.util.List;
+
+public record BulkShippingResponse(long shippedCount, long failedCount,
+                                   List<BulkShippingResult> results) {
+
+  public static BulkShippingResponse of(List<BulkShippingResult> results) {
+    long shippedCount = results.stream().filter(BulkShippingResult::shipped).count();
+    return new BulkShippingResponse(shippedCount, results.size() - shippedCount, results);
+  }
+}
@@ -2,22 +2,28 @@ package com.example.ddd_start.product.application.service;
 
 import com.example.ddd_start.product.domain.Product;
 import com.example.ddd_start.product.domain.ProductRepository;
+import com.example.ddd_start.product.domain.event.ProductPriceChangedEvent;
 import java.util.NoSuchElementException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class DeleteProductService {
 
   private final ProductRepository productRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   public void removeOptions(Long productId, int optIdx) {
     Product product = productRepository.findById(productId)
         .orElseThrow(NoSuchElementException::new);
   }
 
+  @Transactional
   public void delete(Long productId) {
     productRepository.deleteById(productId);
+    eventPublisher.publishEvent(ProductPriceChangedEvent.deleted(productId));
   }
 }
@@ -1,54 +1,61 @@
 package com.example.ddd_start.product.application.service;
 
-import com.example.ddd_start.category.application.service.model.CategoryDTO;
-import com.example.ddd_start.category.domain.event.FetchCategoryEvent;
+import com.example.ddd_start.common.domain.exception.ProductImportException;
 import com.example.ddd_start.product.application.service.model.ProductDTO;
-import com.example.ddd_start.product.domain.ProductRepository;
-import com.example.ddd_start.product.infrastructure.ProductMapper;
-import java.util.List;
-import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import com.example.ddd_start.product.application.service.model.ProductImportResult;
+import com.example.ddd_start.product.infrastructure.SizeLimitedInputStream;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
+/**
+ * 상품 원본을 Jackson 스트리밍으로 한 건씩 읽어 ProductImportService 에 넘긴다.
+ * JSON 배열과 NDJSON 을 모두 읽을 수 있고, 전체 목록을 메모리에 올리지 않는다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class FetchProductService {
 
-  private final static String DUMMY_DATA_API_URL = "https://api.escuelajs.co/api/v1/products";
-  private final ProductRepository productRepository;
-  private final ProductMapper productMapper;
-  private final ApplicationEventPublisher eventPublisher;
+  private final ProductSource productSource;
+  private final ProductImportService productImportService;
+  private final ObjectReader productReader;
+  private final long maxBytes;
 
-  @Transactional
-  public void fetchProducts() {
-    RestTemplate restTemplate = new RestTemplate();
-    HttpHeaders httpHeaders = new HttpHeaders(); //메타 정보(기본 정보)
+  public FetchProductService(ProductSource productSource,
+      ProductImportService productImportService,
+      ObjectMapper objectMapper,
+      @Value("${product.import.max-bytes:104857600}") long maxBytes) {
+    this.productSource = productSource;
+    this.productImportService = productImportService;
+    this.productReader = objectMapper.readerFor(ProductDTO.class);
+    this.maxBytes = maxBytes;
+  }
 
-    HttpEntity<String> request = new HttpEntity<>(httpHeaders); //요청할 데이터를 담은 객체
-    ResponseEntity<List<ProductDTO>> response = restTemplate.exchange(
-        DUMMY_DATA_API_URL,
-        HttpMethod.GET,
-        request,
-        new ParameterizedTypeReference<List<ProductDTO>>() {
-        }
-    );
+  //외부 API 호출은 트랜잭션 밖에서 하고, 저장은 ProductImportService 가 chunk 단위로 처리한다.
+  public ProductImportResult fetchProducts() {
+    try {
+      Optional<InputStream> source = productSource.open();
+      if (source.isEmpty()) {
+        log.info("상품 원본이 바뀌지 않아 동기화를 건너뜁니다.");
+        return ProductImportResult.notModified();
+      }
 
-    List<ProductDTO> products = response.getBody();
-    products.forEach(productDTO -> {
-      CategoryDTO category = productDTO.getCategory();
-      eventPublisher.publishEvent(
-          new FetchCategoryEvent(category));
-      if (!productRepository.existsByTitle(productDTO.getTitle())) {
-        productRepository.save(productMapper.toEntity(productDTO));
+      ProductImportResult result;
+      try (InputStream in = new SizeLimitedInputStream(source.get(), maxBytes);
+          MappingIterator<ProductDTO> products = productReader.readValues(in)) {
+        result = productImportService.importProducts(products);
       }
-    });
+      productSource.completed();
+      return result;
+    } catch (IOException e) {
+      throw new ProductImportException("상품 원본을 읽지 못했습니다.", e);
+    }
   }
 
 }
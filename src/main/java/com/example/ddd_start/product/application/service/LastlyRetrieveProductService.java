@@ -28,15 +28,15 @@ public class LastlyRetrieveProductService {
 
   @Transactional
   public void saveLastlyRetrieveProduct(Long memberId, Long productId) {
-    Member member = memberRepository.findById(memberId).orElseThrow(EntityNotFoundException::new);
+    Member member = memberRepository.getReferenceById(memberId);
     Product product = productRepository.findById(productId)
         .orElseThrow(EntityNotFoundException::new);
     lastlyRetrieveProductRepository.save(new LastlyRetrieveProduct(member, product, Instant.now()));
   }
 
-  @Transactional
+  @Transactional(readOnly = true)
   public List<ProductDTO> printLastlyRetrieveProduct(Long memberId) {
-    Member member = memberRepository.findById(memberId).orElseThrow(EntityNotFoundException::new);
+    Member member = memberRepository.getReferenceById(memberId);
     List<LastlyRetrieveProduct> lastlyRetrieveProducts =
         lastlyRetrieveProductRepository.findTop7LastlyRetrieveProductByMemberOrderByCreatedAtDesc(
             member);
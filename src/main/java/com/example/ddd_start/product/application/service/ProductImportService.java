@@ -0,0 +1,213 @@
+package com.example.ddd_start.product.application.service;
+
+import com.example.ddd_start.category.domain.event.FetchCategoryEvent;
+import com.example.ddd_start.common.application.event.TransactionalEventCollector;
+import com.example.ddd_start.product.application.service.model.ProductDTO;
+import com.example.ddd_start.product.application.service.model.ProductImportResult;
+import com.example.ddd_start.product.domain.event.ProductPriceChangedEvent;
+import com.example.ddd_start.product.domain.event.ProductRegisteredEvent;
+import com.example.ddd_start.product.infrastructure.ProductBatchWriter;
+import com.example.ddd_start.product.infrastructure.ProductBatchWriter.ProductChange;
+import com.example.ddd_start.product.infrastructure.ProductBatchWriter.SyncedProduct;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 외부 원본 상품을 chunk 단위로 증분 동기화한다. chunk 마다
+ * 1. external_id 로 저장된 상품의 content hash 를 한 번에 조회하고
+ * 2. 메모리에서 신규/변경 상품만 골라낸 뒤
+ * 3. 짧은 트랜잭션으로 JDBC batch insert/update 한다.
+ * 본 external id 는 메모리에 모으지 않고 chunk 마다 staging 테이블에 쌓으며,
+ * 끝까지 읽은 뒤 anti-join 으로 이번에 보이지 않은 외부 상품에 deleted_at 을 기록한다.
+ * 변경이 없는 상품은 hash 비교만 하고 쓰지 않는다.
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+  private final ProductBatchWriter productBatchWriter;
+  private final TransactionalEventCollector transactionalEventCollector;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+
+  public ProductImportService(ProductBatchWriter productBatchWriter,
+      TransactionalEventCollector transactionalEventCollector,
+      ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager,
+      @Value("${product.import.chunk-size:500}") int chunkSize) {
+    this.productBatchWriter = productBatchWriter;
+    this.transactionalEventCollector = transactionalEventCollector;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+  }
+
+  public ProductImportResult importProducts(Iterator<ProductDTO> products) {
+    SyncCounter counter = new SyncCounter();
+    String runId = UUID.randomUUID().toString();
+    List<ProductDTO> chunk = new ArrayList<>(chunkSize);
+
+    try {
+      while (products.hasNext()) {
+        ProductDTO product = products.next();
+        counter.fetched++;
+        //external id 가 없으면 증분 비교를 할 수 없으므로 건너뛴다.
+        if (product.getId() == null) {
+          counter.unchanged++;
+          continue;
+        }
+        chunk.add(product);
+        if (chunk.size() == chunkSize) {
+          syncChunk(runId, chunk, counter);
+          chunk.clear();
+        }
+      }
+      if (!chunk.isEmpty()) {
+        syncChunk(runId, chunk, counter);
+      }
+
+      //원본이 비어 있으면 장애일 가능성이 높으므로 전체 삭제 표시를 하지 않는다.
+      if (counter.staged > 0) {
+        transactionTemplate.executeWithoutResult(status -> {
+          List<Long> tombstoned = productBatchWriter.tombstoneUnseen(runId);
+          tombstoned.forEach(
+              id -> eventPublisher.publishEvent(ProductPriceChangedEvent.deleted(id)));
+          counter.tombstoned = tombstoned.size();
+        });
+      }
+    } finally {
+      productBatchWriter.clearStage(runId);
+    }
+
+    ProductImportResult result = counter.toResult();
+    log.info("상품 동기화 완료: {}", result);
+    return result;
+  }
+
+  private void syncChunk(String runId, List<ProductDTO> rawChunk, SyncCounter counter) {
+    transactionTemplate.executeWithoutResult(status -> {
+      //같은 id 가 반복되면(앞선 chunk 포함) 처음 것만 쓴다.
+      Set<Long> fresh = new HashSet<>(productBatchWriter.stage(runId,
+          rawChunk.stream().map(ProductDTO::getId).distinct().toList()));
+      counter.staged += fresh.size();
+      List<ProductDTO> chunk = new ArrayList<>(fresh.size());
+      for (ProductDTO product : rawChunk) {
+        if (fresh.remove(product.getId())) {
+          chunk.add(product);
+        } else {
+          counter.unchanged++;
+        }
+      }
+      if (chunk.isEmpty()) {
+        return;
+      }
+
+      List<SyncedProduct> synced = productBatchWriter.findSynced(
+          chunk.stream().map(ProductDTO::getId).toList(),
+          chunk.stream().map(ProductDTO::getTitle).filter(Objects::nonNull).toList());
+      Map<Long, SyncedProduct> byExternalId = new HashMap<>();
+      Map<String, SyncedProduct> legacyByTitle = new HashMap<>();
+      for (SyncedProduct product : synced) {
+        if (product.externalId() != null) {
+          byExternalId.put(product.externalId(), product);
+        } else {
+          legacyByTitle.putIfAbsent(product.title(), product);
+        }
+      }
+
+      List<ProductChange> inserts = new ArrayList<>();
+      List<ProductChange> updates = new ArrayList<>();
+      for (ProductDTO product : chunk) {
+        SyncedProduct current = byExternalId.get(product.getId());
+        if (current == null) {
+          current = legacyByTitle.remove(product.getTitle());
+        }
+        if (current == null) {
+          inserts.add(new ProductChange(null, product, contentHash(product)));
+          continue;
+        }
+        if (isStale(current, product)) {
+          counter.unchanged++;
+          continue;
+        }
+
+        String hash = contentHash(product);
+        if (current.externalId() == null || current.deleted() || !hash.equals(current.contentHash())) {
+          updates.add(new ProductChange(current.id(), product, hash));
+        } else {
+          counter.unchanged++;
+        }
+      }
+
+      List<Long> insertedIds = productBatchWriter.insert(inserts);
+      counter.inserted += insertedIds.size();
+      counter.updated += productBatchWriter.update(updates);
+      //신규 상품의 재고 row 는 같은 트랜잭션에서 만들어진다.
+      if (!insertedIds.isEmpty()) {
+        eventPublisher.publishEvent(new ProductRegisteredEvent(insertedIds));
+      }
+
+      //바뀐 상품의 카테고리만 커밋 후 한 번에 전달된다.
+      transactionalEventCollector.collectAll(
+          Stream.concat(inserts.stream(), updates.stream())
+              .map(ProductChange::product)
+              .filter(product -> product.getCategory() != null)
+              .map(product -> new FetchCategoryEvent(product.getCategory()))
+              .toList());
+      //가격 스냅샷은 커밋 후 갱신된다. 신규 상품은 처음 주문될 때 읽힌다.
+      updates.forEach(change -> eventPublisher.publishEvent(
+          ProductPriceChangedEvent.updated(change.id(), change.product().getPrice())));
+    });
+  }
+
+  //저장된 것보다 오래된 원본 데이터로 덮어쓰지 않는다.
+  private boolean isStale(SyncedProduct current, ProductDTO product) {
+    if (current.sourceUpdatedAt() == null) {
+      return false;
+    }
+    Instant updatedAt = ProductBatchWriter.parseSourceTime(product.getUpdatedAt());
+    return updatedAt != null && updatedAt.isBefore(current.sourceUpdatedAt());
+  }
+
+  private String contentHash(ProductDTO product) {
+    String images = product.getImages() == null ? "" : String.join("\n", product.getImages());
+    Long categoryId = product.getCategory() != null ? product.getCategory().getId() : null;
+    return DigestUtils.sha256Hex(Stream.of(
+            product.getTitle(), product.getSlug(), product.getPrice(), product.getDescription(),
+            categoryId, images)
+        .map(String::valueOf)
+        .collect(Collectors.joining("\u0000")));
+  }
+
+  private static class SyncCounter {
+
+    private int fetched;
+    private int inserted;
+    private int updated;
+    private int unchanged;
+    private int tombstoned;
+    private int staged;
+
+    private ProductImportResult toResult() {
+      return new ProductImportResult(fetched, inserted, updated, unchanged, tombstoned);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.example.ddd_start.product.application.service;
+
+import com.example.ddd_start.product.application.service.model.ProductPriceSnapshot;
+import com.example.ddd_start.product.domain.ProductPriceView;
+import com.example.ddd_start.product.domain.ProductRepository;
+import com.example.ddd_start.product.domain.event.ProductPriceChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 id 별 가격/판매 가능 여부 스냅샷 캐시. 주문은 엔티티를 읽지 않고 여기서 존재 여부와 가격을 확인한다.
+ * 캐시에 없는 상품은 한 번의 projection 쿼리로 읽는다.
+ * 상품 수정/삭제 이벤트가 오면 커밋 후 스냅샷을 바꾸고, 늦게 끝난 조회가 더 새로운 스냅샷을 덮어쓰지 않도록 version 을 비교한다.
+ */
+@Component
+public class ProductPriceCatalog {
+
+  private final ProductRepository productRepository;
+  private final Cache<Long, ProductPriceSnapshot> snapshots;
+
+  public ProductPriceCatalog(
+      ProductRepository productRepository,
+      MeterRegistry meterRegistry,
+      @Value("${product.price-cache.max-size:100000}") long maxSize,
+      @Value("${product.price-cache.ttl:10m}") Duration ttl) {
+    this.productRepository = productRepository;
+    this.snapshots = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "product.price");
+  }
+
+  //판매 가능한 상품만 돌려준다. 없거나 삭제된 상품은 결과에 포함되지 않는다.
+  public Map<Long, ProductPriceSnapshot> findAvailable(Collection<Long> productIds) {
+    Map<Long, ProductPriceSnapshot> found = new HashMap<>(snapshots.getAllPresent(productIds));
+
+    Set<Long> missing = productIds.stream()
+        .filter(productId -> !found.containsKey(productId))
+        .collect(Collectors.toSet());
+    if (!missing.isEmpty()) {
+      for (ProductPriceView view : productRepository.findPriceViewsByIdIn(missing)) {
+        ProductPriceSnapshot snapshot = new ProductPriceSnapshot(view.id(), view.price(), true,
+            view.updatedAt() != null ? view.updatedAt() : Instant.EPOCH);
+        found.put(view.id(), put(snapshot));
+      }
+    }
+
+    found.values().removeIf(snapshot -> !snapshot.available());
+    return found;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPriceChanged(ProductPriceChangedEvent event) {
+    put(new ProductPriceSnapshot(
+        event.getProductId(), event.getPrice(), event.isAvailable(), event.getChangedAt()));
+  }
+
+  private ProductPriceSnapshot put(ProductPriceSnapshot snapshot) {
+    return snapshots.asMap().merge(snapshot.productId(), snapshot,
+        (current, candidate) -> candidate.isNewerThan(current) ? candidate : current);
+  }
+}
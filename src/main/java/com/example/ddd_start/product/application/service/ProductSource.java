@@ -0,0 +1,22 @@
+package com.example.ddd_start.product.application.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * 상품 가져오기의 원본. JSON 배열 또는 NDJSON 을 스트림으로 돌려준다.
+ * 스트림을 닫는 것은 호출하는 쪽의 책임이다.
+ */
+public interface ProductSource {
+
+  /**
+   * 마지막으로 완료된 동기화 이후 원본이 바뀌지 않았다면 빈 값을 돌려준다.
+   * 조건부 요청을 지원하지 않는 원본은 항상 스트림을 돌려준다.
+   */
+  Optional<InputStream> open() throws IOException;
+
+  //가져오기가 끝까지 성공했을 때 호출된다. 다음 조건부 요청의 기준을 이때 확정한다.
+  default void completed() {
+  }
+}
@@ -7,10 +7,13 @@ import com.example.ddd_start.product.application.service.model.UpdateProductRequ
 import com.example.ddd_start.product.domain.Product;
 import com.example.ddd_start.product.domain.ProductInfo;
 import com.example.ddd_start.product.domain.ProductRepository;
+import com.example.ddd_start.product.domain.event.ProductPriceChangedEvent;
+import com.example.ddd_start.product.domain.event.ProductRegisteredEvent;
 import com.example.ddd_start.store.domain.Store;
 import com.example.ddd_start.store.domain.StoreRepository;
 import java.util.NoSuchElementException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +24,7 @@ public class RegisterProductService {
   private final StoreRepository storeRepository;
   private final ProductRepository productRepository;
   private final CategoryRepository categoryRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
   public Long registerNewProduct(NewProductRequest req) {
@@ -30,6 +34,7 @@ public class RegisterProductService {
         new ProductInfo(req.getTitle(), req.getSlug(), req.getPrice(), req.getDescription(),
             req.getCategoryId(), req.getImages()));
     productRepository.save(product);
+    eventPublisher.publishEvent(ProductRegisteredEvent.of(product.getId()));
 
     return product.getId();
   }
@@ -46,6 +51,7 @@ public class RegisterProductService {
         null
     );
     productRepository.save(product);
+    eventPublisher.publishEvent(ProductRegisteredEvent.of(product.getId()));
     return product.getId();
   }
 
@@ -63,6 +69,8 @@ public class RegisterProductService {
         null
     );
     productRepository.save(product);
+    eventPublisher.publishEvent(
+        ProductPriceChangedEvent.updated(product.getId(), product.getPrice().getAmount()));
     return product.getId();
   }
 }
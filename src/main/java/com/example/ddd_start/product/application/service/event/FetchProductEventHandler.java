@@ -1,5 +1,6 @@
 package com.example.ddd_start.product.application.service.event;
 
+import com.example.ddd_start.common.config.AsyncConfig;
 import com.example.ddd_start.product.application.service.FetchProductService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,13 +17,14 @@ public class FetchProductEventHandler {
 
   private final FetchProductService fetchProductService;
 
-  @Async
+  @Async(AsyncConfig.IMPORT_EXECUTOR)
   @EventListener(ApplicationReadyEvent.class)
   public void fetchProduct() {
     fetchProductService.fetchProducts();
   }
 
-  //매일 오후 12시마다 실행
+  //매일 오후 12시마다 실행. 느린 원본이 스케줄러 스레드를 붙잡지 않도록 import 전용 executor 에서 돈다.
+  @Async(AsyncConfig.IMPORT_EXECUTOR)
   @Scheduled(cron = "0 0 12 * * *", zone = "Asia/Seoul")
   public void fetchProducts() {
     fetchProductService.fetchProducts();
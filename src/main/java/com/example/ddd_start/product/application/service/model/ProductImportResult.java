@@ -0,0 +1,10 @@
+package com.example.ddd_start.product.application.service.model;
+
+public record ProductImportResult(int fetched, int inserted, int updated, int unchanged,
+                                  int tombstoned) {
+
+  //원본이 바뀌지 않아 아무것도 읽지 않은 경우
+  public static ProductImportResult notModified() {
+    return new ProductImportResult(0, 0, 0, 0, 0);
+  }
+}
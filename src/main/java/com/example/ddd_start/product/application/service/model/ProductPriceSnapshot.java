@@ -0,0 +1,12 @@
+package com.example.ddd_start.product.application.service.model;
+
+import java.time.Instant;
+
+//주문 금액 계산에 쓰는 상품 가격 스냅샷. version 이 더 큰 스냅샷만 캐시에 남는다.
+public record ProductPriceSnapshot(Long productId, Integer price, boolean available,
+                                   Instant version) {
+
+  public boolean isNewerThan(ProductPriceSnapshot other) {
+    return !version.isBefore(other.version);
+  }
+}
@@ -1,18 +1,29 @@
 package com.example.ddd_start.product.domain;
 
+import com.example.ddd_start.common.infrastructure.id.PooledId;
 import com.example.ddd_start.member.domain.Member;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
 import java.time.Instant;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 
 @Entity
 @NoArgsConstructor
 @Getter
 public class LastlyRetrieveProduct {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = PooledId.NAME)
+    @GenericGenerator(name = PooledId.NAME, strategy = PooledId.STRATEGY, parameters = {
+            @Parameter(name = TableGenerator.TABLE_PARAM, value = PooledId.TABLE),
+            @Parameter(name = TableGenerator.SEGMENT_COLUMN_PARAM, value = PooledId.SEGMENT_COLUMN),
+            @Parameter(name = TableGenerator.VALUE_COLUMN_PARAM, value = PooledId.VALUE_COLUMN),
+            @Parameter(name = TableGenerator.CONFIG_PREFER_SEGMENT_PER_ENTITY, value = "true"),
+            @Parameter(name = TableGenerator.OPT_PARAM, value = PooledId.OPTIMIZER),
+            @Parameter(name = TableGenerator.INCREMENT_PARAM, value = PooledId.INCREMENT_SIZE)})
     private Long id;
     @ManyToOne
     Member member;
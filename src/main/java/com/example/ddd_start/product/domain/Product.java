@@ -19,9 +19,15 @@ import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Where;
 
 @Entity
-@Table(name = "product", indexes = @Index(name = "idx_title", columnList = "title"))
+@Table(name = "product", indexes = {
+    @Index(name = "idx_title", columnList = "title"),
+    @Index(name = "idx_external_id", columnList = "external_id", unique = true)
+})
+//외부 원본에서 사라진 상품은 지우지 않고 deleted_at 만 기록한다.
+@Where(clause = "deleted_at is null")
 @Getter
 @NoArgsConstructor
 public class Product {
@@ -46,6 +52,11 @@ public class Product {
   List<String> images;
   private Instant createdAt;
   private Instant updatedAt;
+  //외부 원본에서 가져온 상품만 값이 있다. 증분 동기화에 사용한다.
+  private Long externalId;
+  private String contentHash;
+  private Instant sourceUpdatedAt;
+  private Instant deletedAt;
 
   public Product(String title, String slug, Money price, String description, Long categoryId,
       List<String> images, Instant createdAt, Instant updatedAt) {
@@ -0,0 +1,8 @@
+package com.example.ddd_start.product.domain;
+
+import java.time.Instant;
+
+//엔티티를 만들지 않고 가격만 읽는 projection
+public record ProductPriceView(Long id, Integer price, Instant updatedAt) {
+
+}
@@ -1,5 +1,6 @@
 package com.example.ddd_start.product.domain;
 
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,4 +21,8 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
   Page<Product> findPageProductByTitleContaining(String title, Pageable pageable);
 
   Boolean existsByTitle(String title);
+
+  @Query("select new com.example.ddd_start.product.domain.ProductPriceView(p.id, p.price.amount, p.updatedAt) "
+      + "from Product p where p.id in :ids")
+  List<ProductPriceView> findPriceViewsByIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,38 @@
+package com.example.ddd_start.product.domain;
+
+import java.io.Serializable;
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 동기화 한 번(runId)에서 원본에 보인 external id. 메모리 대신 여기에 chunk 단위로 쌓아 두고,
+ * 끝나면 anti-join 으로 사라진 상품을 찾은 뒤 지운다.
+ */
+@Entity
+@Table(name = "product_sync_stage")
+@Getter
+@NoArgsConstructor
+public class ProductSyncStage {
+
+  @EmbeddedId
+  private Key id;
+
+  @Getter
+  @Embeddable
+  @EqualsAndHashCode
+  @AllArgsConstructor
+  @NoArgsConstructor
+  public static class Key implements Serializable {
+
+    @Column(length = 36)
+    private String runId;
+    private Long externalId;
+  }
+}
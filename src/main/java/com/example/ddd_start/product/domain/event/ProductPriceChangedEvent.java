@@ -0,0 +1,26 @@
+package com.example.ddd_start.product.domain.event;
+
+import java.time.Instant;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 가격 또는 판매 가능 여부가 바뀌었음을 알린다. 삭제된 상품은 available=false, price=null 이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductPriceChangedEvent {
+
+  private final Long productId;
+  private final Integer price;
+  private final boolean available;
+  private final Instant changedAt;
+
+  public static ProductPriceChangedEvent updated(Long productId, Integer price) {
+    return new ProductPriceChangedEvent(productId, price, true, Instant.now());
+  }
+
+  public static ProductPriceChangedEvent deleted(Long productId) {
+    return new ProductPriceChangedEvent(productId, null, false, Instant.now());
+  }
+}
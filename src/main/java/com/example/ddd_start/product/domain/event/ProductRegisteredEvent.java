@@ -0,0 +1,19 @@
+package com.example.ddd_start.product.domain.event;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품이 새로 등록되었음을 알린다. 등록 트랜잭션 안에서 동기로 발행되므로 리스너의 변경도 같이 커밋된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductRegisteredEvent {
+
+  private final List<Long> productIds;
+
+  public static ProductRegisteredEvent of(Long productId) {
+    return new ProductRegisteredEvent(List.of(productId));
+  }
+}
@@ -0,0 +1,45 @@
+package com.example.ddd_start.product.infrastructure;
+
+import com.example.ddd_start.product.application.service.ProductSource;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 JSON/NDJSON 파일에서 상품 목록을 읽는다. 외부 API 없이 가져오기를 돌려볼 때 사용한다.
+ * 파일 수정 시각이 마지막으로 완료된 동기화 때와 같으면 읽지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "product.import.source", havingValue = "file")
+public class FileProductSource implements ProductSource {
+
+  private final Path path;
+  private volatile FileTime completedModifiedTime;
+  private volatile FileTime pendingModifiedTime;
+
+  public FileProductSource(@Value("${product.import.file}") Path path) {
+    this.path = path;
+  }
+
+  @Override
+  public Optional<InputStream> open() throws IOException {
+    FileTime modifiedTime = Files.getLastModifiedTime(path);
+    if (modifiedTime.equals(completedModifiedTime)) {
+      return Optional.empty();
+    }
+    pendingModifiedTime = modifiedTime;
+    return Optional.of(new BufferedInputStream(Files.newInputStream(path)));
+  }
+
+  @Override
+  public void completed() {
+    completedModifiedTime = pendingModifiedTime;
+  }
+}
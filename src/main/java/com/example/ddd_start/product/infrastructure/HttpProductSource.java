@@ -0,0 +1,90 @@
+package com.example.ddd_start.product.infrastructure;
+
+import com.example.ddd_start.common.domain.exception.ProductImportException;
+import com.example.ddd_start.product.application.service.ProductSource;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 API(또는 로컬에 띄운 대체 서버)에서 상품 목록을 읽는다.
+ * 응답 본문을 메모리에 모으지 않고 스트림 그대로 넘기며, 스트림을 닫으면 응답도 닫힌다.
+ * 서버가 ETag/Last-Modified 를 주면 다음 요청은 조건부로 보내고, 304 면 아무것도 읽지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "product.import.source", havingValue = "http", matchIfMissing = true)
+public class HttpProductSource implements ProductSource {
+
+  private final URI uri;
+  private final SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+  private volatile Validators completedValidators = Validators.NONE;
+  private volatile Validators pendingValidators = Validators.NONE;
+
+  public HttpProductSource(
+      @Value("${product.import.url:https://api.escuelajs.co/api/v1/products}") URI uri,
+      @Value("${product.import.connect-timeout:3s}") Duration connectTimeout,
+      @Value("${product.import.read-timeout:30s}") Duration readTimeout) {
+    this.uri = uri;
+    this.requestFactory.setConnectTimeout((int) connectTimeout.toMillis());
+    this.requestFactory.setReadTimeout((int) readTimeout.toMillis());
+    this.requestFactory.setBufferRequestBody(false);
+  }
+
+  @Override
+  public Optional<InputStream> open() throws IOException {
+    ClientHttpRequest request = requestFactory.createRequest(uri, HttpMethod.GET);
+    Validators validators = completedValidators;
+    if (validators.eTag() != null) {
+      request.getHeaders().setIfNoneMatch(validators.eTag());
+    }
+    if (validators.lastModified() > 0) {
+      request.getHeaders().setIfModifiedSince(validators.lastModified());
+    }
+
+    ClientHttpResponse response = request.execute();
+    if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+      response.close();
+      return Optional.empty();
+    }
+    if (!response.getStatusCode().is2xxSuccessful()) {
+      response.close();
+      throw new ProductImportException("상품 원본 응답 오류: " + response.getRawStatusCode());
+    }
+
+    HttpHeaders headers = response.getHeaders();
+    pendingValidators = new Validators(headers.getETag(), headers.getLastModified());
+
+    return Optional.of(new FilterInputStream(response.getBody()) {
+      @Override
+      public void close() throws IOException {
+        try {
+          super.close();
+        } finally {
+          response.close();
+        }
+      }
+    });
+  }
+
+  @Override
+  public void completed() {
+    completedValidators = pendingValidators;
+  }
+
+  private record Validators(String eTag, long lastModified) {
+
+    static final Validators NONE = new Validators(null, -1);
+  }
+}
@@ -0,0 +1,237 @@
+package com.example.ddd_start.product.infrastructure;
+
+import com.example.ddd_start.product.application.service.model.ProductDTO;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 원본 상품을 JPA 를 거치지 않고 JDBC batch 로 저장/수정/삭제 표시한다.
+ * IDENTITY 키는 batch insert 로 돌려받을 수 없으므로 저장 후 external_id 로 id 를 한 번에 다시 조회한다.
+ * 호출하는 쪽에서 트랜잭션을 책임진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductBatchWriter {
+
+  private static final String UNSEEN_CONDITION =
+      "p.external_id is not null and p.deleted_at is null "
+          + "and not exists (select 1 from product_sync_stage s "
+          + "where s.run_id = ? and s.external_id = p.external_id)";
+
+  private static final String INSERT_PRODUCT =
+      "insert into product (title, slug, price, description, category_id, created_at, updated_at, "
+          + "external_id, content_hash, source_updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String UPDATE_PRODUCT =
+      "update product set title = ?, slug = ?, price = ?, description = ?, category_id = ?, "
+          + "updated_at = ?, external_id = ?, content_hash = ?, source_updated_at = ?, deleted_at = null "
+          + "where id = ?";
+  private static final String INSERT_IMAGE =
+      "insert into product_images (product_id, image_url) values (?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+  /**
+   * 이미 저장된 상품의 동기화 상태를 조회한다.
+   * external_id 가 없는 예전 row 는 title 로 찾아 external_id 를 채울 수 있게 한다.
+   */
+  public List<SyncedProduct> findSynced(List<Long> externalIds, List<String> titles) {
+    if (externalIds.isEmpty()) {
+      return List.of();
+    }
+
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("externalIds", externalIds)
+        .addValue("titles", titles.isEmpty() ? List.of("") : titles);
+    return namedParameterJdbcTemplate.query(
+        "select id, external_id, title, content_hash, source_updated_at, deleted_at from product "
+            + "where external_id in (:externalIds) or (external_id is null and title in (:titles))",
+        params,
+        (rs, rowNum) -> new SyncedProduct(
+            rs.getLong("id"),
+            rs.getObject("external_id", Long.class),
+            rs.getString("title"),
+            rs.getString("content_hash"),
+            toInstant(rs.getTimestamp("source_updated_at")),
+            rs.getTimestamp("deleted_at") != null));
+  }
+
+  //저장한 상품의 id 를 돌려준다.
+  public List<Long> insert(List<ProductChange> changes) {
+    if (changes.isEmpty()) {
+      return List.of();
+    }
+
+    Timestamp now = Timestamp.from(Instant.now());
+    jdbcTemplate.batchUpdate(INSERT_PRODUCT, changes, changes.size(), (ps, change) -> {
+      ProductDTO product = change.product();
+      bindContent(ps, product);
+      ps.setTimestamp(6, toTimestamp(product.getCreationAt(), now));
+      ps.setTimestamp(7, toTimestamp(product.getUpdatedAt(), now));
+      ps.setObject(8, product.getId());
+      ps.setString(9, change.contentHash());
+      ps.setTimestamp(10, toTimestamp(product.getUpdatedAt(), null));
+    });
+
+    Map<Long, Long> ids = findIdsByExternalId(changes);
+    insertImages(changes, change -> ids.get(change.product().getId()));
+    return List.copyOf(ids.values());
+  }
+
+  //이미지는 변경분만 골라내지 않고 상품 단위로 지웠다가 다시 넣는다.
+  public int update(List<ProductChange> changes) {
+    if (changes.isEmpty()) {
+      return 0;
+    }
+
+    Timestamp now = Timestamp.from(Instant.now());
+    jdbcTemplate.batchUpdate(UPDATE_PRODUCT, changes, changes.size(), (ps, change) -> {
+      ProductDTO product = change.product();
+      bindContent(ps, product);
+      ps.setTimestamp(6, toTimestamp(product.getUpdatedAt(), now));
+      ps.setObject(7, product.getId());
+      ps.setString(8, change.contentHash());
+      ps.setTimestamp(9, toTimestamp(product.getUpdatedAt(), null));
+      ps.setLong(10, change.id());
+    });
+
+    namedParameterJdbcTemplate.update(
+        "delete from product_images where product_id in (:ids)",
+        new MapSqlParameterSource("ids", changes.stream().map(ProductChange::id).toList()));
+    insertImages(changes, ProductChange::id);
+    return changes.size();
+  }
+
+  /**
+   * 이번 동기화에서 처음 보는 external id 만 staging 테이블에 쌓고 돌려준다.
+   * 앞선 chunk 에 이미 나온 id 는 돌려주지 않으므로 호출하는 쪽에서 중복으로 건너뛸 수 있다.
+   */
+  public List<Long> stage(String runId, Collection<Long> externalIds) {
+    if (externalIds.isEmpty()) {
+      return List.of();
+    }
+    Set<Long> staged = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+        "select external_id from product_sync_stage where run_id = :runId "
+            + "and external_id in (:externalIds)",
+        new MapSqlParameterSource()
+            .addValue("runId", runId)
+            .addValue("externalIds", externalIds),
+        Long.class));
+    List<Long> fresh = externalIds.stream()
+        .filter(externalId -> !staged.contains(externalId))
+        .toList();
+
+    jdbcTemplate.batchUpdate(
+        "insert into product_sync_stage (run_id, external_id) values (?, ?)",
+        fresh, fresh.size(), (ps, externalId) -> {
+          ps.setString(1, runId);
+          ps.setLong(2, externalId);
+        });
+    return fresh;
+  }
+
+  /**
+   * 이번 동기화에서 보이지 않은 외부 상품에 deleted_at 을 기록하고 그 id 를 돌려준다.
+   * staging 테이블과 anti-join 하므로 전체 외부 상품을 애플리케이션으로 읽어 오지 않는다.
+   */
+  public List<Long> tombstoneUnseen(String runId) {
+    List<Long> missing = jdbcTemplate.queryForList(
+        "select p.id from product p where " + UNSEEN_CONDITION + " for update",
+        Long.class, runId);
+    if (missing.isEmpty()) {
+      return missing;
+    }
+
+    jdbcTemplate.update("update product p set deleted_at = ? where " + UNSEEN_CONDITION,
+        Timestamp.from(Instant.now()), runId);
+    return missing;
+  }
+
+  public void clearStage(String runId) {
+    jdbcTemplate.update("delete from product_sync_stage where run_id = ?", runId);
+  }
+
+  //원본의 시각 문자열이 잘못되어도 동기화 전체를 멈추지 않고 알 수 없는 값(null)으로 본다.
+  public static Instant parseSourceTime(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Instant.parse(value);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  private void bindContent(PreparedStatement ps, ProductDTO product) throws SQLException {
+    ps.setString(1, product.getTitle());
+    ps.setString(2, product.getSlug());
+    ps.setObject(3, product.getPrice());
+    ps.setString(4, product.getDescription());
+    ps.setObject(5, product.getCategory() != null ? product.getCategory().getId() : null);
+  }
+
+  private Map<Long, Long> findIdsByExternalId(List<ProductChange> changes) {
+    List<Long> externalIds = changes.stream().map(change -> change.product().getId()).toList();
+    Map<Long, Long> ids = new HashMap<>();
+    namedParameterJdbcTemplate.query(
+        "select id, external_id from product where external_id in (:externalIds)",
+        new MapSqlParameterSource("externalIds", externalIds),
+        rs -> {
+          ids.put(rs.getLong("external_id"), rs.getLong("id"));
+        });
+    return ids;
+  }
+
+  private void insertImages(List<ProductChange> changes,
+      Function<ProductChange, Long> productId) {
+    List<Object[]> rows = new ArrayList<>();
+    for (ProductChange change : changes) {
+      List<String> images = change.product().getImages();
+      if (images == null) {
+        continue;
+      }
+      Long id = productId.apply(change);
+      images.forEach(imageUrl -> rows.add(new Object[]{id, imageUrl}));
+    }
+
+    if (!rows.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_IMAGE, rows);
+    }
+  }
+
+  private Timestamp toTimestamp(String value, Timestamp defaultValue) {
+    Instant instant = parseSourceTime(value);
+    return instant != null ? Timestamp.from(instant) : defaultValue;
+  }
+
+  private Instant toInstant(Timestamp timestamp) {
+    return timestamp != null ? timestamp.toInstant() : null;
+  }
+
+  public record SyncedProduct(Long id, Long externalId, String title, String contentHash,
+                              Instant sourceUpdatedAt, boolean deleted) {
+
+  }
+
+  //id 는 update 일 때만 채워진다.
+  public record ProductChange(Long id, ProductDTO product, String contentHash) {
+
+  }
+}
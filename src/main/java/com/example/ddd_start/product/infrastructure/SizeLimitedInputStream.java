@@ -0,0 +1,51 @@
+package com.example.ddd_start.product.infrastructure;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 읽은 바이트 수가 한도를 넘으면 IOException 을 던진다. 원본 크기를 믿을 수 없을 때 사용한다.
+ */
+public class SizeLimitedInputStream extends FilterInputStream {
+
+  private final long maxBytes;
+  private long readBytes;
+
+  public SizeLimitedInputStream(InputStream in, long maxBytes) {
+    super(in);
+    this.maxBytes = maxBytes;
+  }
+
+  @Override
+  public int read() throws IOException {
+    int b = super.read();
+    if (b != -1) {
+      count(1);
+    }
+    return b;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    int n = super.read(b, off, len);
+    if (n > 0) {
+      count(n);
+    }
+    return n;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    long skipped = super.skip(n);
+    count(skipped);
+    return skipped;
+  }
+
+  private void count(long n) throws IOException {
+    readBytes += n;
+    if (readBytes > maxBytes) {
+      throw new IOException("상품 원본이 최대 크기(" + maxBytes + " bytes)를 넘었습니다.");
+    }
+  }
+}
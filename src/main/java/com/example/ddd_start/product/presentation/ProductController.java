@@ -1,5 +1,6 @@
 package com.example.ddd_start.product.presentation;
 
+import com.example.ddd_start.auth.model.AuthenticatedMember;
 import com.example.ddd_start.product.application.service.DeleteProductService;
 import com.example.ddd_start.product.application.service.LastlyRetrieveProductService;
 import com.example.ddd_start.product.application.service.PrintProductService;
@@ -172,17 +173,18 @@ public class ProductController {
   }
 
   @PostMapping("/products/lastly")
-  public ResponseEntity saveLastlyRetrievedProduct(@RequestBody SaveLastlyProductRequest req) {
-    lastlyRetrieveProductService.saveLastlyRetrieveProduct(req.memberId(), req.productId());
+  public ResponseEntity saveLastlyRetrievedProduct(AuthenticatedMember member,
+      @RequestBody SaveLastlyProductRequest req) {
+    lastlyRetrieveProductService.saveLastlyRetrieveProduct(member.memberId(), req.productId());
     return new ResponseEntity(
         HttpStatus.ACCEPTED
     );
   }
 
   @GetMapping("/products/lastly")
-  public ResponseEntity printLastlyRetrievedProduct(@RequestParam Long memberId) {
+  public ResponseEntity printLastlyRetrievedProduct(AuthenticatedMember member) {
     List<ProductDTO> productDTOS = lastlyRetrieveProductService.printLastlyRetrieveProduct(
-        memberId);
+        member.memberId());
     return new ResponseEntity(
         productDTOS,
         HttpStatus.ACCEPTED
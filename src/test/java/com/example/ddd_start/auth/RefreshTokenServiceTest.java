@@ -0,0 +1,141 @@
+package com.example.ddd_start.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.ddd_start.auth.model.JwtToken;
+import com.example.ddd_start.auth.model.RefreshToken;
+import com.example.ddd_start.common.domain.Address;
+import com.example.ddd_start.common.domain.exception.InvalidRefreshTokenException;
+import com.example.ddd_start.member.applicaiton.ChangePasswordService;
+import com.example.ddd_start.member.applicaiton.CustomUserDetailService;
+import com.example.ddd_start.member.applicaiton.DeleteMemberService;
+import com.example.ddd_start.member.applicaiton.MemberService;
+import com.example.ddd_start.member.applicaiton.model.ChangePasswordCommand;
+import com.example.ddd_start.member.domain.Member;
+import com.example.ddd_start.member.domain.MemberRepository;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * refresh token 회전, 재사용 감지, 만료, 회원 상태 변경에 따른 family 폐기를 확인한다.
+ * 폐기는 예외와 함께 커밋되어야 하고 비밀번호 변경은 다른 스레드에서 끝나므로 테스트 트랜잭션을 쓰지 않는다.
+ */
+@SpringBootTest
+class RefreshTokenServiceTest {
+
+  private static final String PASSWORD = "password";
+
+  @Autowired
+  private RefreshTokenService refreshTokenService;
+  @Autowired
+  private RefreshTokenRepository refreshTokenRepository;
+  @Autowired
+  private JwtTokenProvider jwtTokenProvider;
+  @Autowired
+  private MemberRepository memberRepository;
+  @Autowired
+  private CustomUserDetailService userDetailService;
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+  @Autowired
+  private ChangePasswordService changePasswordService;
+  @Autowired
+  private MemberService memberService;
+  @Autowired
+  private DeleteMemberService deleteMemberService;
+
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    String username = "member-" + UUID.randomUUID().toString().substring(0, 8);
+    member = memberRepository.save(new Member(username, username + "@test.com",
+        passwordEncoder.encode(PASSWORD), username, new Address("address", "detail", 12345),
+        "USER"));
+  }
+
+  @Test
+  void rotatingValidTokenIssuesNewToken() {
+    JwtToken issued = signIn();
+
+    JwtToken rotated = refreshTokenService.refresh(issued.refreshToken());
+
+    assertThat(rotated.refreshToken()).isNotEqualTo(issued.refreshToken());
+    assertThat(rotated.accessToken()).isNotBlank();
+    assertThat(refreshTokenService.refresh(rotated.refreshToken()).refreshToken())
+        .isNotEqualTo(rotated.refreshToken());
+  }
+
+  @Test
+  void reusingRotatedTokenRevokesFamily() {
+    JwtToken issued = signIn();
+    JwtToken rotated = refreshTokenService.refresh(issued.refreshToken());
+
+    assertThatThrownBy(() -> refreshTokenService.refresh(issued.refreshToken()))
+        .isInstanceOf(InvalidRefreshTokenException.class);
+    //재사용이 감지되면 정상적으로 회전된 최신 토큰도 함께 폐기된다.
+    assertThatThrownBy(() -> refreshTokenService.refresh(rotated.refreshToken()))
+        .isInstanceOf(InvalidRefreshTokenException.class);
+  }
+
+  @Test
+  void expiredTokenIsRejected() {
+    String refreshTokenId = UUID.randomUUID().toString();
+    JwtToken token = jwtTokenProvider.generateToken(member.getUsername(), "ROLE_USER",
+        member.getId(), member.getMemberGrade(), refreshTokenId);
+    refreshTokenRepository.save(new RefreshToken(refreshTokenId, UUID.randomUUID().toString(),
+        member.getUsername(), "ROLE_USER", member.getId(), member.getMemberGrade(),
+        Instant.now().minusSeconds(1)));
+
+    assertThatThrownBy(() -> refreshTokenService.refresh(token.refreshToken()))
+        .isInstanceOf(InvalidRefreshTokenException.class);
+  }
+
+  @Test
+  void passwordChangeRevokesFamily() throws Exception {
+    JwtToken issued = signIn();
+
+    changePasswordService.changePassword(
+        new ChangePasswordCommand(member.getId(), PASSWORD, "new-password")).join();
+
+    assertThatThrownBy(() -> refreshTokenService.refresh(issued.refreshToken()))
+        .isInstanceOf(InvalidRefreshTokenException.class);
+  }
+
+  @Test
+  void blockingMemberRevokesFamily() {
+    JwtToken issued = signIn();
+
+    memberService.blockMembers(new Long[]{member.getId()});
+
+    assertThatThrownBy(() -> refreshTokenService.refresh(issued.refreshToken()))
+        .isInstanceOf(InvalidRefreshTokenException.class);
+  }
+
+  @Test
+  void deletingMemberRevokesFamily() {
+    JwtToken issued = signIn();
+
+    deleteMemberService.delete(member.getId());
+
+    assertThatThrownBy(() -> refreshTokenService.refresh(issued.refreshToken()))
+        .isInstanceOf(InvalidRefreshTokenException.class);
+    assertThat(refreshTokenRepository.findAll())
+        .filteredOn(token -> token.getUsername().equals(member.getUsername()))
+        .allMatch(RefreshToken::getRevoked);
+  }
+
+  private JwtToken signIn() {
+    UserDetails user = userDetailService.loadUserByUsername(member.getUsername());
+    return refreshTokenService.issue(
+        new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+  }
+}
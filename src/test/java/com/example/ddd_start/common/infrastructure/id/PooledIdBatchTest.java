@@ -0,0 +1,204 @@
+package com.example.ddd_start.common.infrastructure.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.ddd_start.common.domain.Address;
+import com.example.ddd_start.common.domain.Money;
+import com.example.ddd_start.coupon.application.UserCouponService;
+import com.example.ddd_start.coupon.domain.CouponDefinition;
+import com.example.ddd_start.coupon.domain.CouponDefinitionRepository;
+import com.example.ddd_start.member.domain.Member;
+import com.example.ddd_start.member.domain.MemberRepository;
+import com.example.ddd_start.order.domain.Order;
+import com.example.ddd_start.order.domain.OrderLine;
+import com.example.ddd_start.order.domain.OrderLineRepository;
+import com.example.ddd_start.order.domain.OrderRepository;
+import com.example.ddd_start.order.domain.value.Orderer;
+import com.example.ddd_start.order.domain.value.ShippingInfo;
+import com.example.ddd_start.product.domain.Product;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * pooled id 를 쓰는 엔티티의 insert 가 JDBC batch 로 나가는지 확인한다. (주문 라인, 쿠폰 일괄 발급)
+ * DataSource 를 감싸 SQL 별로 addBatch/executeBatch/executeUpdate 호출 수를 센다.
+ */
+@SpringBootTest
+@Transactional
+class PooledIdBatchTest {
+
+  @Autowired
+  private EntityManager entityManager;
+  @Autowired
+  private StatementCounter statementCounter;
+  @Autowired
+  private OrderRepository orderRepository;
+  @Autowired
+  private OrderLineRepository orderLineRepository;
+  @Autowired
+  private UserCouponService userCouponService;
+  @Autowired
+  private CouponDefinitionRepository couponDefinitionRepository;
+  @Autowired
+  private MemberRepository memberRepository;
+
+  private Product product;
+
+  @BeforeEach
+  void setUp() {
+    product = new Product();
+    entityManager.persist(product);
+    entityManager.flush();
+    statementCounter.reset();
+  }
+
+  @Test
+  void orderLinesAreInsertedInOneBatch() {
+    List<OrderLine> orderLines = IntStream.range(0, 10)
+        .mapToObj(i -> new OrderLine(product, 1000, 2))
+        .toList();
+    Order order = orderRepository.save(new Order(orderLines, new ShippingInfo(), "message",
+        new Orderer(1L, "orderer", "010-0000-0000", "orderer@test.com"), null));
+    orderLines.forEach(orderLine -> orderLine.changeOrder(order));
+    orderLineRepository.saveAll(orderLines);
+    entityManager.flush();
+
+    assertThat(order.getId()).isNotNull();
+    assertThat(statementCounter.executeUpdates("insert into order_line")).isZero();
+    assertThat(statementCounter.executeBatches("insert into order_line")).isEqualTo(1);
+    assertThat(statementCounter.addBatches("insert into order_line")).isEqualTo(10);
+  }
+
+  @Test
+  void bulkCouponGrantIsInsertedInOneBatch() {
+    List<Long> memberIds = IntStream.range(0, 20)
+        .mapToObj(i -> memberRepository.save(new Member("member" + i, "member" + i + "@test.com",
+            "password", "member" + i, new Address("address", "detail", 12345), "ROLE_USER")).getId())
+        .toList();
+    CouponDefinition couponDefinition = couponDefinitionRepository.save(
+        new CouponDefinition("coupon", false, 0f, new Money(1000)));
+    entityManager.flush();
+    statementCounter.reset();
+
+    int granted = userCouponService.grant(memberIds, couponDefinition.getId());
+    entityManager.flush();
+
+    assertThat(granted).isEqualTo(20);
+    assertThat(statementCounter.executeUpdates("insert into user_coupon")).isZero();
+    assertThat(statementCounter.executeBatches("insert into user_coupon")).isEqualTo(1);
+    assertThat(statementCounter.addBatches("insert into user_coupon")).isEqualTo(20);
+  }
+
+  @TestConfiguration
+  static class StatementCountingConfig {
+
+    @Bean
+    StatementCounter statementCounter() {
+      return new StatementCounter();
+    }
+
+    @Bean
+    static BeanPostProcessor countingDataSourcePostProcessor() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (bean instanceof DataSource dataSource) {
+            return StatementCounter.wrap(dataSource);
+          }
+          return bean;
+        }
+      };
+    }
+  }
+
+  static class StatementCounter {
+
+    private static final Map<String, AtomicInteger> COUNTS = new ConcurrentHashMap<>();
+
+    static DataSource wrap(DataSource dataSource) {
+      return proxy(DataSource.class, dataSource, (method, args, result) -> {
+        if (result instanceof Connection connection) {
+          return wrap(connection);
+        }
+        return result;
+      });
+    }
+
+    private static Connection wrap(Connection connection) {
+      return proxy(Connection.class, connection, (method, args, result) -> {
+        if (result instanceof PreparedStatement statement && method.equals("prepareStatement")) {
+          return wrap(statement, ((String) args[0]).toLowerCase());
+        }
+        return result;
+      });
+    }
+
+    private static PreparedStatement wrap(PreparedStatement statement, String sql) {
+      return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+        if (method.equals("addBatch") || method.equals("executeBatch")
+            || method.equals("executeUpdate")) {
+          COUNTS.computeIfAbsent(method + ":" + sql, key -> new AtomicInteger()).incrementAndGet();
+        }
+        return result;
+      });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, AfterInvocation afterInvocation) {
+      return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+          (proxy, method, args) -> {
+            try {
+              Object result = method.invoke(target, args);
+              return afterInvocation.apply(method.getName(), args, result);
+            } catch (InvocationTargetException e) {
+              throw e.getTargetException();
+            }
+          });
+    }
+
+    void reset() {
+      COUNTS.clear();
+    }
+
+    int addBatches(String sqlPrefix) {
+      return count("addBatch", sqlPrefix);
+    }
+
+    int executeBatches(String sqlPrefix) {
+      return count("executeBatch", sqlPrefix);
+    }
+
+    int executeUpdates(String sqlPrefix) {
+      return count("executeUpdate", sqlPrefix);
+    }
+
+    private int count(String method, String sqlPrefix) {
+      return COUNTS.entrySet().stream()
+          .filter(entry -> entry.getKey().startsWith(method + ":" + sqlPrefix))
+          .mapToInt(entry -> entry.getValue().get())
+          .sum();
+    }
+
+    private interface AfterInvocation {
+
+      Object apply(String method, Object[] args, Object result) throws Throwable;
+    }
+  }
+}
@@ -0,0 +1,254 @@
+package com.example.ddd_start.common.infrastructure.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.ddd_start.common.domain.exception.AlreadyLockException;
+import com.example.ddd_start.common.domain.exception.NoLockException;
+import com.example.ddd_start.common.domain.lock.LockId;
+import com.example.ddd_start.common.domain.lock.LockManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * LockManager 구현체를 N 개 스레드, M 개 키로 경쟁시켜 비교한다. {@code ./gradlew benchmark} 로만 실행된다.
+ * <p>
+ * -Pbenchmark.threads, -Pbenchmark.keys, -Pbenchmark.ops 로 부하를 조절할 수 있다.
+ */
+@Tag("benchmark")
+class LockManagerBenchmark {
+
+  private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+  private static final int KEYS = Integer.getInteger("benchmark.keys", 8);
+  private static final int OPS_PER_THREAD = Integer.getInteger("benchmark.ops", 200);
+  private static final Duration WAIT = Duration.ofSeconds(5);
+  private static final String TYPE = "benchmark";
+
+  private DriverManagerDataSource dataSource;
+  private final List<AutoCloseable> closeables = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:lock-benchmark-" + UUID.randomUUID()
+            + ";MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "");
+    new JdbcTemplate(dataSource).execute(
+        "create table locks ("
+            + "type varchar(255) not null, "
+            + "id varchar(255) not null, "
+            + "lock_id varchar(255), "
+            + "expiration_time timestamp, "
+            + "primary key (type, id))");
+    new JdbcTemplate(dataSource).execute("create index idx_locks_lock_id on locks (lock_id)");
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    for (AutoCloseable closeable : closeables) {
+      closeable.close();
+    }
+    new JdbcTemplate(dataSource).execute("shutdown");
+  }
+
+  @Test
+  void jdbcLockManager_noWait() throws Exception {
+    report("jdbc / retry", run(jdbcLockManager(60), false));
+  }
+
+  @Test
+  void jdbcLockManager_wait() throws Exception {
+    report("jdbc / wait", run(jdbcLockManager(60), true));
+  }
+
+  @Test
+  void memoryLockManager_noWait() throws Exception {
+    report("memory / retry", run(memoryLockManager(60), false));
+  }
+
+  @Test
+  void memoryLockManager_wait() throws Exception {
+    report("memory / wait", run(memoryLockManager(60), true));
+  }
+
+  @Test
+  void jdbcLockManager_expiry() throws Exception {
+    assertExpiry(jdbcLockManager(1));
+  }
+
+  @Test
+  void memoryLockManager_expiry() throws Exception {
+    assertExpiry(memoryLockManager(1));
+  }
+
+  private SpringLockManager jdbcLockManager(long leaseSeconds) {
+    return new SpringLockManager(
+        new JdbcTemplate(dataSource), new DataSourceTransactionManager(dataSource), leaseSeconds);
+  }
+
+  private MemoryLockManager memoryLockManager(long leaseSeconds) {
+    MemoryLockManager lockManager = new MemoryLockManager(leaseSeconds);
+    closeables.add(lockManager::destroy);
+    return lockManager;
+  }
+
+  //만료된 lock 은 확인에 실패하고, 다른 요청이 넘겨받으며, 이전 lockId 로는 새 소유자를 해제할 수 없어야 한다.
+  private void assertExpiry(LockManager lockManager) throws InterruptedException {
+    LockId first = lockManager.tryLock(TYPE, "expiry");
+    lockManager.checkLock(first);
+    assertThatThrownBy(() -> lockManager.tryLock(TYPE, "expiry"))
+        .isInstanceOf(AlreadyLockException.class);
+
+    Thread.sleep(1_500);
+
+    assertThatThrownBy(() -> lockManager.checkLock(first))
+        .isInstanceOf(NoLockException.class);
+    LockId second = lockManager.tryLock(TYPE, "expiry");
+    lockManager.releaseLock(first);
+    lockManager.checkLock(second);
+    lockManager.renewLock(second);
+    lockManager.releaseLock(second);
+    assertThatThrownBy(() -> lockManager.checkLock(second))
+        .isInstanceOf(NoLockException.class);
+  }
+
+  private Result run(LockManager lockManager, boolean useWait) throws Exception {
+    AtomicInteger[] holders = new AtomicInteger[KEYS];
+    Arrays.setAll(holders, i -> new AtomicInteger());
+    AtomicLong retries = new AtomicLong();
+    AtomicLong failures = new AtomicLong();
+    AtomicLong violations = new AtomicLong();
+    CountDownLatch start = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    IntFunction<long[]> worker = thread -> {
+      long[] latencies = new long[OPS_PER_THREAD];
+      awaitStart(start);
+      for (int op = 0; op < OPS_PER_THREAD; op++) {
+        int key = ThreadLocalRandom.current().nextInt(KEYS);
+        long begin = System.nanoTime();
+        LockId lockId = acquire(lockManager, key, useWait, retries);
+        latencies[op] = System.nanoTime() - begin;
+
+        if (lockId == null) {
+          failures.incrementAndGet();
+          continue;
+        }
+        if (holders[key].incrementAndGet() > 1) {
+          violations.incrementAndGet();
+        }
+        busyWork();
+        holders[key].decrementAndGet();
+        lockManager.releaseLock(lockId);
+      }
+      return latencies;
+    };
+
+    List<Future<long[]>> futures = new ArrayList<>();
+    for (int i = 0; i < THREADS; i++) {
+      int thread = i;
+      futures.add(executor.submit(() -> worker.apply(thread)));
+    }
+
+    long begin = System.nanoTime();
+    start.countDown();
+    long[] latencies = new long[THREADS * OPS_PER_THREAD];
+    int offset = 0;
+    for (Future<long[]> future : futures) {
+      long[] part = future.get(5, TimeUnit.MINUTES);
+      System.arraycopy(part, 0, latencies, offset, part.length);
+      offset += part.length;
+    }
+    long elapsed = System.nanoTime() - begin;
+    executor.shutdown();
+
+    Result result = new Result(latencies, elapsed, retries.get(), failures.get(), violations.get());
+    assertThat(result.violations()).as("상호 배제 위반").isZero();
+    return result;
+  }
+
+  //대기 없는 tryLock 은 호출자가 직접 재시도해야 하므로 그 횟수를 센다.
+  private LockId acquire(LockManager lockManager, int key, boolean useWait, AtomicLong retries) {
+    String id = String.valueOf(key);
+    if (useWait) {
+      try {
+        return lockManager.tryLock(TYPE, id, WAIT);
+      } catch (AlreadyLockException e) {
+        return null;
+      }
+    }
+
+    long deadline = System.nanoTime() + WAIT.toNanos();
+    while (System.nanoTime() < deadline) {
+      try {
+        return lockManager.tryLock(TYPE, id);
+      } catch (AlreadyLockException e) {
+        retries.incrementAndGet();
+        Thread.onSpinWait();
+      }
+    }
+    return null;
+  }
+
+  private void busyWork() {
+    long until = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(50);
+    while (System.nanoTime() < until) {
+      Thread.onSpinWait();
+    }
+  }
+
+  private void awaitStart(CountDownLatch start) {
+    try {
+      start.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void report(String name, Result result) {
+    long[] sorted = result.latencies().clone();
+    Arrays.sort(sorted);
+    double seconds = result.elapsedNanos() / 1_000_000_000.0;
+    long operations = sorted.length;
+
+    System.out.printf(
+        "[%s] threads=%d keys=%d ops=%d | throughput=%.0f ops/s | acquire p50=%.1fus "
+            + "p95=%.1fus p99=%.1fus max=%.1fus | retries=%d (%.2f/op) failures=%d (%.2f%%) "
+            + "violations=%d%n",
+        name, THREADS, KEYS, operations,
+        operations / seconds,
+        percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+        sorted[sorted.length - 1] / 1_000.0,
+        result.retries(), (double) result.retries() / operations,
+        result.failures(), result.failures() * 100.0 / operations,
+        result.violations());
+  }
+
+  private double percentile(long[] sorted, double percentile) {
+    int index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return sorted[Math.max(0, index)] / 1_000.0;
+  }
+
+  private record Result(long[] latencies, long elapsedNanos, long retries, long failures,
+                        long violations) {
+
+  }
+}
@@ -0,0 +1,81 @@
+package com.example.ddd_start.common.infrastructure.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.ddd_start.common.infrastructure.ratelimit.RateLimitProperties.Route;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * 한 요청이 여러 bucket 에 걸릴 때 뒤의 bucket 에서 거절되면 앞에서 소비한 토큰을 돌려주는지 확인한다.
+ * 시계를 멈춰 두므로 토큰이 채워지지 않는다.
+ */
+class RateLimitFilterTest {
+
+  private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+  private RateLimiter rateLimiter;
+  private RateLimitFilter filter;
+  private Route wide;
+
+  @BeforeEach
+  void setUp() {
+    RateLimitProperties properties = new RateLimitProperties();
+    wide = route(5);
+    properties.getRoutes().put("wide", wide);
+    properties.getRoutes().put("narrow", route(1));
+
+    rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry(), now::get);
+    filter = new RateLimitFilter(rateLimiter, properties);
+  }
+
+  @Test
+  void rejectionInLaterBucketRefundsEarlierBuckets() throws Exception {
+    assertThat(send().getStatus()).isEqualTo(HttpStatus.OK.value());
+
+    MockHttpServletResponse rejected = send();
+    assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    assertThat(rejected.getHeader("Retry-After")).isNotNull();
+
+    //wide 는 첫 요청에서 하나만 썼으므로 4개가 남아 있어야 한다.
+    for (int i = 0; i < 4; i++) {
+      assertThat(rateLimiter.tryAcquire("wide", wide, "ip:127.0.0.1")).isZero();
+    }
+    assertThat(rateLimiter.tryAcquire("wide", wide, "ip:127.0.0.1")).isPositive();
+  }
+
+  @Test
+  void allowsAgainAfterPeriod() throws Exception {
+    send();
+    assertThat(send().getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+
+    now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+    assertThat(send().getStatus()).isEqualTo(HttpStatus.OK.value());
+  }
+
+  private MockHttpServletResponse send() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/orders/place-order");
+    request.setServletPath("/orders/place-order");
+    request.setRemoteAddr("127.0.0.1");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+
+  private Route route(int capacity) {
+    Route route = new Route();
+    route.setMethod("POST");
+    route.setPath("/orders/place-order");
+    route.setCapacity(capacity);
+    route.setPeriod(Duration.ofMinutes(1));
+    return route;
+  }
+}
@@ -0,0 +1,66 @@
+package com.example.ddd_start.common.infrastructure.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * GCRA 계산을 고정된 시각으로 확인한다. capacity 3, period 3초라 토큰 하나는 1초마다 채워진다.
+ */
+class TokenBucketTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+  private static final long START = 100 * SECOND;
+
+  @Test
+  void allowsBurstUpToCapacityThenRejects() {
+    TokenBucket bucket = new TokenBucket(3, 3 * SECOND, START);
+
+    assertThat(bucket.tryConsume(START)).isZero();
+    assertThat(bucket.tryConsume(START)).isZero();
+    assertThat(bucket.tryConsume(START)).isZero();
+    assertThat(bucket.tryConsume(START)).isEqualTo(SECOND);
+  }
+
+  @Test
+  void refillsAfterPeriod() {
+    TokenBucket bucket = new TokenBucket(3, 3 * SECOND, START);
+    for (int i = 0; i < 3; i++) {
+      bucket.tryConsume(START);
+    }
+
+    //1초가 지나면 하나만 채워진다.
+    assertThat(bucket.tryConsume(START + SECOND)).isZero();
+    assertThat(bucket.tryConsume(START + SECOND)).isPositive();
+
+    //period 가 지나면 다시 capacity 만큼 허용한다.
+    long later = START + 10 * SECOND;
+    for (int i = 0; i < 3; i++) {
+      assertThat(bucket.tryConsume(later)).isZero();
+    }
+    assertThat(bucket.tryConsume(later)).isPositive();
+  }
+
+  @Test
+  void refundReturnsOneToken() {
+    TokenBucket bucket = new TokenBucket(3, 3 * SECOND, START);
+    for (int i = 0; i < 3; i++) {
+      bucket.tryConsume(START);
+    }
+
+    bucket.refund();
+
+    assertThat(bucket.tryConsume(START)).isZero();
+    assertThat(bucket.tryConsume(START)).isPositive();
+  }
+
+  @Test
+  void isIdleOnlyAfterTheoreticalArrivalTimePlusIdleTimeout() {
+    TokenBucket bucket = new TokenBucket(3, 3 * SECOND, START);
+    bucket.tryConsume(START);
+
+    assertThat(bucket.isIdleSince(START + SECOND, SECOND)).isFalse();
+    assertThat(bucket.isIdleSince(START + 3 * SECOND, SECOND)).isTrue();
+  }
+}
@@ -0,0 +1,215 @@
+package com.example.ddd_start.inventory.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.ddd_start.common.domain.exception.OutOfStockException;
+import com.example.ddd_start.inventory.domain.Stock;
+import com.example.ddd_start.inventory.domain.StockRepository;
+import com.example.ddd_start.inventory.infrastructure.StockJdbcRepository;
+import com.example.ddd_start.product.domain.ProductRepository;
+import com.example.ddd_start.product.domain.event.ProductRegisteredEvent;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 재고 예약/해제가 트랜잭션 결과에 맞게 반영되는지, 시작 시 보정이 미반영 주문 수량을 빼는지,
+ * DB 에는 증감분만 반영하는지 확인한다.
+ * 트랜잭션은 TransactionSynchronizationManager 를 직접 열고 완료 콜백을 호출해 흉내 낸다.
+ */
+class StockServiceTest {
+
+  private static final Long PRODUCT_A = 1L;
+  private static final Long PRODUCT_B = 2L;
+
+  private StockRepository stockRepository;
+  private StockJdbcRepository stockJdbcRepository;
+  private ProductRepository productRepository;
+  private StockService stockService;
+
+  @BeforeEach
+  void setUp() {
+    stockRepository = mock(StockRepository.class);
+    stockJdbcRepository = mock(StockJdbcRepository.class);
+    productRepository = mock(ProductRepository.class);
+    stockService = new StockService(stockRepository, stockJdbcRepository, productRepository, 4);
+
+    List<Stock> stocks = List.of(stock(PRODUCT_A, 10), stock(PRODUCT_B, 1));
+    when(stockRepository.findAll()).thenReturn(stocks);
+    when(stockJdbcRepository.findUnflushedReservations()).thenReturn(Map.of());
+    stockService.reconcile();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void reconcileSubtractsUnflushedReservations() {
+    List<Stock> stocks = List.of(stock(PRODUCT_A, 10));
+    when(stockRepository.findAll()).thenReturn(stocks);
+    when(stockJdbcRepository.findUnflushedReservations()).thenReturn(Map.of(PRODUCT_A, 3));
+
+    stockService.reconcile();
+
+    assertThat(stockService.getQuantity(PRODUCT_A)).hasValue(7);
+    verify(stockJdbcRepository).applyDeltas(eq(Map.of(PRODUCT_A, -3)), any());
+  }
+
+  @Test
+  void flushWritesOnlyChangesSinceLastFlush() {
+    stockService.reserve(Map.of(PRODUCT_A, 4));
+    stockService.release(Map.of(PRODUCT_A, 1));
+    stockService.flush();
+    verify(stockJdbcRepository).applyDeltas(eq(Map.of(PRODUCT_A, -3)), any());
+
+    stockService.reserve(Map.of(PRODUCT_B, 1));
+    stockService.flush();
+    verify(stockJdbcRepository).applyDeltas(eq(Map.of(PRODUCT_B, -1)), any());
+  }
+
+  @Test
+  void failedFlushIsRetried() {
+    stockService.reserve(Map.of(PRODUCT_A, 2));
+    doThrow(new IllegalStateException("db down"))
+        .when(stockJdbcRepository).applyDeltas(any(), any());
+    stockService.flush();
+
+    doNothing().when(stockJdbcRepository).applyDeltas(any(), any());
+    stockService.reserve(Map.of(PRODUCT_A, 1));
+    stockService.flush();
+
+    verify(stockJdbcRepository).applyDeltas(eq(Map.of(PRODUCT_A, -3)), any());
+  }
+
+  @Test
+  void reserveRejectsProductWithoutStock() {
+    assertThatThrownBy(() -> stockService.reserve(Map.of(PRODUCT_A, 3, 99L, 1)))
+        .isInstanceOf(OutOfStockException.class);
+
+    assertThat(stockService.getQuantity(PRODUCT_A)).hasValue(10);
+  }
+
+  @Test
+  void registeredProductStartsWithEmptyStock() {
+    stockService.onProductRegistered(ProductRegisteredEvent.of(3L));
+
+    verify(stockJdbcRepository).createAll(eq(List.of(3L)), any());
+    assertThat(stockService.getQuantity(3L)).hasValue(0);
+    assertThatThrownBy(() -> stockService.reserve(Map.of(3L, 1)))
+        .isInstanceOf(OutOfStockException.class);
+  }
+
+  @Test
+  void registeredProductCounterOpensAfterCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+    stockService.onProductRegistered(ProductRegisteredEvent.of(3L));
+    assertThat(stockService.getQuantity(3L)).isEmpty();
+
+    complete(TransactionSynchronization.STATUS_COMMITTED);
+
+    assertThat(stockService.getQuantity(3L)).hasValue(0);
+  }
+
+  @Test
+  void reserveIsAllOrNothing() {
+    assertThatThrownBy(() -> stockService.reserve(Map.of(PRODUCT_A, 3, PRODUCT_B, 2)))
+        .isInstanceOf(OutOfStockException.class);
+
+    assertThat(stockService.getQuantity(PRODUCT_A)).hasValue(10);
+    assertThat(stockService.getQuantity(PRODUCT_B)).hasValue(1);
+  }
+
+  @Test
+  void reservationIsReleasedOnRollback() {
+    TransactionSynchronizationManager.initSynchronization();
+    stockService.reserve(Map.of(PRODUCT_A, 4));
+    assertThat(stockService.getQuantity(PRODUCT_A)).hasValue(6);
+
+    complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+    assertThat(stockService.getQuantity(PRODUCT_A)).hasValue(10);
+  }
+
+  @Test
+  void reservationIsKeptOnCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+    stockService.reserve(Map.of(PRODUCT_A, 4));
+
+    complete(TransactionSynchronization.STATUS_COMMITTED);
+
+    assertThat(stockService.getQuantity(PRODUCT_A)).hasValue(6);
+  }
+
+  @Test
+  void releaseAfterCommitWaitsForCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+    stockService.releaseAfterCommit(Map.of(PRODUCT_A, 5));
+    assertThat(stockService.getQuantity(PRODUCT_A)).hasValue(10);
+
+    complete(TransactionSynchronization.STATUS_COMMITTED);
+
+    assertThat(stockService.getQuantity(PRODUCT_A)).hasValue(15);
+  }
+
+  @Test
+  void releaseAfterCommitIsDroppedOnRollback() {
+    TransactionSynchronizationManager.initSynchronization();
+    stockService.releaseAfterCommit(Map.of(PRODUCT_A, 5));
+
+    complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+    assertThat(stockService.getQuantity(PRODUCT_A)).hasValue(10);
+  }
+
+  @Test
+  void restockRejectsUnknownProduct() {
+    when(productRepository.existsById(99L)).thenReturn(false);
+
+    assertThatThrownBy(() -> stockService.restock(99L, 5))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(stockService.getQuantity(99L)).isEmpty();
+  }
+
+  @Test
+  void restockCreatesCounterForExistingProduct() {
+    when(productRepository.existsById(3L)).thenReturn(true);
+
+    stockService.restock(3L, 5);
+
+    assertThat(stockService.getQuantity(3L)).hasValue(5);
+  }
+
+  //커밋이면 afterCommit 을 먼저 부르고, 둘 다 afterCompletion 으로 끝낸다.
+  private void complete(int status) {
+    List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    if (status == TransactionSynchronization.STATUS_COMMITTED) {
+      synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+    synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+  }
+
+  private Stock stock(Long productId, int quantity) {
+    Stock stock = mock(Stock.class);
+    when(stock.getProductId()).thenReturn(productId);
+    when(stock.getQuantity()).thenReturn(quantity);
+    return stock;
+  }
+}
@@ -0,0 +1,77 @@
+package com.example.ddd_start.inventory.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 차감이 전부 성공하거나 전부 되돌려지는지, 동시에 차감해도 재고보다 많이 나가지 않는지 확인한다.
+ */
+class StripedCounterTest {
+
+  @Test
+  void decrementSpansStripes() {
+    StripedCounter counter = new StripedCounter(4, 10);
+
+    assertThat(counter.tryDecrement(7)).isTrue();
+    assertThat(counter.sum()).isEqualTo(3);
+  }
+
+  @Test
+  void failedDecrementRestoresTakenQuantity() {
+    StripedCounter counter = new StripedCounter(4, 10);
+
+    assertThat(counter.tryDecrement(11)).isFalse();
+    assertThat(counter.sum()).isEqualTo(10);
+    assertThat(counter.tryDecrement(10)).isTrue();
+    assertThat(counter.sum()).isZero();
+  }
+
+  @Test
+  void concurrentDecrementsNeverOversell() throws Exception {
+    int threads = 8;
+    int attempts = 5_000;
+    int initial = 10_000;
+    StripedCounter counter = new StripedCounter(4, initial);
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Integer>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        int quantity = t % 3 + 1;
+        futures.add(executor.submit(() -> {
+          start.await();
+          int taken = 0;
+          for (int i = 0; i < attempts; i++) {
+            if (counter.tryDecrement(quantity)) {
+              taken += quantity;
+            }
+            //일부는 되돌려 차감과 해제가 섞이게 한다.
+            if (i % 10 == 0 && taken >= quantity) {
+              counter.add(quantity);
+              taken -= quantity;
+            }
+          }
+          return taken;
+        }));
+      }
+      start.countDown();
+
+      int taken = 0;
+      for (Future<Integer> future : futures) {
+        taken += future.get(30, TimeUnit.SECONDS);
+      }
+      assertThat(taken).isLessThanOrEqualTo(initial);
+      assertThat(counter.sum()).isEqualTo(initial - taken);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
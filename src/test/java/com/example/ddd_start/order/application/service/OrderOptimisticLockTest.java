@@ -0,0 +1,75 @@
+package com.example.ddd_start.order.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.ddd_start.order.application.model.BulkShippingCommand;
+import com.example.ddd_start.order.application.model.BulkShippingResult;
+import com.example.ddd_start.order.application.model.BulkShippingResult.Status;
+import com.example.ddd_start.order.domain.Order;
+import com.example.ddd_start.order.domain.OrderLine;
+import com.example.ddd_start.order.domain.OrderRepository;
+import com.example.ddd_start.order.domain.value.OrderState;
+import com.example.ddd_start.order.domain.value.Orderer;
+import com.example.ddd_start.order.domain.value.Receiver;
+import com.example.ddd_start.order.domain.value.ShippingInfo;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.OptimisticLockException;
+import javax.persistence.RollbackException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 일괄 출고(JDBC 조건부 update)가 올린 version 때문에, 그 전에 엔티티로 읽어 둔 주문의 늦은 변경이
+ * 출고를 덮어쓰지 못하고 실패하는지 확인한다. 커밋이 필요하므로 테스트 트랜잭션을 쓰지 않는다.
+ */
+@SpringBootTest
+class OrderOptimisticLockTest {
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+  @Autowired
+  private OrderRepository orderRepository;
+  @Autowired
+  private BulkShippingService bulkShippingService;
+
+  @Test
+  void staleWriteAfterBulkShippingFails() {
+    Order order = orderRepository.save(new Order(List.of(new OrderLine(1L, 1000, 1)),
+        new ShippingInfo(), "message",
+        new Orderer(1L, "orderer", "010-0000-0000", "orderer@test.com"), null));
+    assertThat(order.getVersion()).isZero();
+
+    EntityManager staleEntityManager = entityManagerFactory.createEntityManager();
+    try {
+      staleEntityManager.getTransaction().begin();
+      Order staleOrder = staleEntityManager.find(Order.class, order.getId());
+
+      List<BulkShippingResult> results = bulkShippingService.startShipping(
+          List.of(new BulkShippingCommand(order.getId(), 0)));
+      assertThat(results.get(0).status()).isEqualTo(Status.SHIPPED);
+
+      //아직 PREPARING 으로 읽어 둔 엔티티라 도메인 검증은 통과한다.
+      staleOrder.changeShippingInfo(
+          new ShippingInfo(null, new Receiver("receiver", "010-1111-1111")));
+      assertThatThrownBy(() -> staleEntityManager.getTransaction().commit())
+          .isInstanceOf(RollbackException.class)
+          .hasCauseInstanceOf(OptimisticLockException.class);
+    } finally {
+      if (staleEntityManager.getTransaction().isActive()) {
+        staleEntityManager.getTransaction().rollback();
+      }
+      staleEntityManager.close();
+    }
+
+    Order shipped = orderRepository.findById(order.getId()).orElseThrow();
+    assertThat(shipped.getOrderState()).isEqualTo(OrderState.SHIPPED);
+    assertThat(shipped.getVersion()).isEqualTo(1);
+    assertThat(Optional.ofNullable(shipped.getShippingInfo()).map(ShippingInfo::getReceiver))
+        .isEmpty();
+  }
+}
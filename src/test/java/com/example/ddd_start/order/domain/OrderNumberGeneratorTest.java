@@ -0,0 +1,114 @@
+package com.example.ddd_start.order.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 주문 번호의 유일성, 스레드별 증가 순서, 시계 역행 처리, 고정 길이 인코딩을 확인한다.
+ */
+class OrderNumberGeneratorTest {
+
+  private static final int THREADS = 8;
+  private static final int PER_THREAD = 20_000;
+
+  @Test
+  void numbersAreUniqueAndIncreasingPerThreadUnderContention() throws Exception {
+    OrderNumberGenerator generator = new OrderNumberGenerator(7);
+    Set<String> numbers = ConcurrentHashMap.newKeySet();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<Boolean>> futures = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          String previous = null;
+          boolean ordered = true;
+          for (int i = 0; i < PER_THREAD; i++) {
+            String number = generator.nextOrderNumber();
+            numbers.add(number);
+            //한 스레드가 받은 번호는 문자열 순서로도 항상 커야 한다.
+            ordered &= previous == null || number.compareTo(previous) > 0;
+            previous = number;
+          }
+          return ordered;
+        }));
+      }
+      start.countDown();
+      for (Future<Boolean> future : futures) {
+        assertThat(future.get(30, TimeUnit.SECONDS)).isTrue();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(numbers).hasSize(THREADS * PER_THREAD);
+  }
+
+  @Test
+  void clockRegressionKeepsLastTimestamp() {
+    AtomicLong now = new AtomicLong(OrderNumberGenerator.EPOCH + 10_000);
+    OrderNumberGenerator generator = new OrderNumberGenerator(1, now::get);
+
+    long first = generator.nextId();
+    now.addAndGet(-5_000);
+    long second = generator.nextId();
+    long third = generator.nextId();
+
+    assertThat(second).isGreaterThan(first);
+    assertThat(third).isGreaterThan(second);
+    assertThat(timestampOf(second)).isEqualTo(timestampOf(first));
+  }
+
+  @Test
+  void sequenceOverflowBorrowsNextMillisecond() {
+    OrderNumberGenerator generator =
+        new OrderNumberGenerator(1, () -> OrderNumberGenerator.EPOCH + 10_000);
+
+    long previous = generator.nextId();
+    for (int i = 0; i < (1 << OrderNumberGenerator.SEQUENCE_BITS) + 10; i++) {
+      long next = generator.nextId();
+      assertThat(next).isGreaterThan(previous);
+      previous = next;
+    }
+    assertThat(timestampOf(previous)).isEqualTo(10_001);
+  }
+
+  @Test
+  void encodingIsFixedWidthAndOrderPreserving() {
+    assertThat(OrderNumberGenerator.encode(0)).isEqualTo("0000000000000");
+    assertThat(OrderNumberGenerator.encode(31)).isEqualTo("000000000000Z");
+    assertThat(OrderNumberGenerator.encode(32)).isEqualTo("0000000000010");
+    assertThat(OrderNumberGenerator.encode(Long.MAX_VALUE)).hasSize(13);
+
+    long[] ids = {1, 31, 32, 1L << 40, Long.MAX_VALUE};
+    for (int i = 1; i < ids.length; i++) {
+      assertThat(OrderNumberGenerator.encode(ids[i]))
+          .isGreaterThan(OrderNumberGenerator.encode(ids[i - 1]));
+    }
+  }
+
+  @Test
+  void rejectsNodeIdOutOfRange() {
+    assertThatThrownBy(() -> new OrderNumberGenerator(OrderNumberGenerator.MAX_NODE_ID + 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new OrderNumberGenerator(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private long timestampOf(long id) {
+    return id >>> (OrderNumberGenerator.NODE_BITS + OrderNumberGenerator.SEQUENCE_BITS);
+  }
+}